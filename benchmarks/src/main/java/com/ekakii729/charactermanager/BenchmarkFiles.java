@@ -0,0 +1,102 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Makes the binary and text files of characters the JMH benchmarks load, generated from a fixed seed so every run measures the same characters
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+public class BenchmarkFiles {
+
+    private final static long SEED = 20231004; // the seed every benchmark roster is generated from
+    private final static Race[] RACES = Race.values(); // races given to the created characters
+    private final static CharacterClass[] CLASSES = CharacterClass.values(); // classes given to the created characters
+
+    private BenchmarkFiles() {
+    }
+
+    /** Method Name: createBinaryFile
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Generates a binary file of characters named NPC 1 to NPC numberOfCharacters
+     * @Parameters directory - where the file is made, numberOfCharacters - the number of characters in the file
+     * @Returns The binary file, Data Type: Path
+     * Dependencies: CharacterGenerator, ForkJoinPool
+     * Throws/Exceptions: IOException
+     */
+
+    public static Path createBinaryFile(Path directory, int numberOfCharacters) throws IOException {
+        Path binaryFile = directory.resolve("characters.bin"); // the generated file
+        new CharacterGenerator().seed(SEED).generateFile(binaryFile.toString(), numberOfCharacters, ForkJoinPool.commonPool());
+        return binaryFile;
+    }
+
+    /** Method Name: createCharacters
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Creates characters named Character 0 upwards with rolled stats, for the benchmarks that fill a roster or a store in memory
+     * @Parameters numberOfCharacters - the number of characters to create
+     * @Returns The characters, Data Type: Character[]
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    public static Character[] createCharacters(int numberOfCharacters) {
+        Character[] characters = new Character[numberOfCharacters]; // the created characters
+        for (int i = 0; i < numberOfCharacters; i++) {
+            characters[i] = new Character();
+            characters[i].setName("Character " + i);
+            characters[i].setRace(RACES[i % RACES.length]);
+            characters[i].setClassOfCharacter(CLASSES[i % CLASSES.length]);
+            characters[i].generateStats();
+            characters[i].setLevel(1 + i % 20);
+        } return characters;
+    }
+
+    /** Method Name: createTextFile
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Writes the characters of a roster to a text file in the 11 line format the importers read
+     * @Parameters directory - where the file is made, characters - the characters being written
+     * @Returns The text file, Data Type: Path
+     * Dependencies: BufferedWriter, Stat
+     * Throws/Exceptions: IOException
+     */
+
+    public static Path createTextFile(Path directory, Character[] characters) throws IOException {
+        Path textFile = directory.resolve("characters.txt"); // the written file
+        try (BufferedWriter writer = Files.newBufferedWriter(textFile)) { // writes the text file
+            for (Character character : characters) {
+                writer.write(character.getName() + "\n" + character.getRace() + "\n" + character.getClassOfCharacter() + "\n");
+                for (Stat stat : Stat.values()) writer.write(character.getStat(stat) + "\n");
+            }
+        } return textFile;
+    }
+
+    /** Method Name: deleteDirectory
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Deletes a directory made for a benchmark and everything in it
+     * @Parameters directory - the directory being deleted
+     * @Returns N/A, Data Type: Void
+     * Dependencies: Files
+     * Throws/Exceptions: IOException
+     */
+
+    public static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) { // every file and directory inside, deepest last
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) Files.deleteIfExists(path);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: JMH benchmarks of the dice rolled for a single character, generating its stats, levelling it up and changing its class, run with -prof gc to see that neither allocates
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DiceBenchmark {
+
+    @Param({"1", "19"})
+    private int levels; // the number of levels gained by each level up
+
+    private Character character; // the character the dice are rolled for
+    private SplittableRandom dice; // the generator the dice are rolled with
+
+    @Setup
+    public void setUp() {
+        character = new Character();
+        character.setName("Malloc Dragonslayer");
+        character.setRace(Race.HUMAN);
+        character.setClassOfCharacter(CharacterClass.WARRIOR);
+        dice = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public void generateStats(Blackhole blackhole) {
+        character.generateStats(dice);
+        blackhole.consume(character.getHitPoints());
+    }
+
+    /** Method Name: levelUp
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Levels a level 1 character up, the level and hit points are reset first so they do not grow without end
+     * @Parameters blackhole - keeps the hit points from being optimised away
+     * @Returns N/A, Data Type: Void
+     * Dependencies: Blackhole
+     * Throws/Exceptions: N/A
+     */
+
+    @Benchmark
+    public void levelUp(Blackhole blackhole) {
+        character.setLevel(1);
+        character.setHitPoints(0);
+        character.levelUp(levels, dice);
+        blackhole.consume(character.getHitPoints());
+    }
+
+    /** Method Name: changeClass
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Changes the class of a character of the benchmarked level, which rolls the hit dice of every level again with the dice of the thread
+     * @Parameters blackhole - keeps the hit points from being optimised away
+     * @Returns N/A, Data Type: Void
+     * Dependencies: Blackhole
+     * Throws/Exceptions: N/A
+     */
+
+    @Benchmark
+    public void changeClass(Blackhole blackhole) {
+        character.setLevel(levels);
+        character.changeClass(character.getClassOfCharacter());
+        blackhole.consume(character.getHitPoints());
+    }
+}
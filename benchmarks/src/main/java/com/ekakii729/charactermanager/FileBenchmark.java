@@ -0,0 +1,72 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: JMH benchmarks of the whole file operations of CharacterUtils, loading a binary file, saving it and importing a text file, for rosters from 10 to 10000000 characters
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000", "10000000"})
+    private int size; // the number of characters in the roster
+
+    private Path directory; // holds the files of the benchmark
+    private Path textFile; // the text file that is imported
+    private CharacterUtils myHelper; // CharacterUtils object the files are loaded into
+
+    /** Method Name: setUp
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Generates the binary file, loads it and writes its characters out as a text file
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: BenchmarkFiles, CharacterUtils
+     * Throws/Exceptions: IOException
+     */
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("charactermanager-bench");
+        Path binaryFile = BenchmarkFiles.createBinaryFile(directory, size); // the binary file that is loaded and saved
+        myHelper = new CharacterUtils(size);
+        myHelper.userBinaryFileChoiceToArray(binaryFile.toString());
+        textFile = BenchmarkFiles.createTextFile(directory, myHelper.getCharacterList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        myHelper.close();
+        BenchmarkFiles.deleteDirectory(directory);
+    }
+
+    @Benchmark
+    public int readKnownBinaryFileToArray() {
+        myHelper.readKnownBinaryFileToArray();
+        return myHelper.getNumberOfCharacters();
+    }
+
+    @Benchmark
+    public int writeToFile() {
+        myHelper.writeToFile();
+        return myHelper.getNumberOfCharacters();
+    }
+
+    @Benchmark
+    public int importTextFile() {
+        myHelper.userTextFileChoiceToArray(textFile.toString());
+        return myHelper.getNumberOfCharacters();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: JMH benchmarks of finding, adding and deleting single characters in rosters from 10 to 10000000 characters, every change is written to the binary file the way the menu writes it
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LookupBenchmark {
+
+    private final static int NUMBER_OF_NAMES = 1024; // the number of names looked up in turn, a power of 2 so the next one is found with a mask
+
+    @Param({"10", "1000", "100000", "1000000", "10000000"})
+    private int size; // the number of characters in the roster
+
+    private Path directory; // holds the binary file of the benchmark
+    private CharacterUtils myHelper; // CharacterUtils object the characters are looked up in
+    private String[] names; // names of characters in the roster, spread over the whole roster
+    private int nextName; // the name looked up next
+    private Character newCharacter; // the character added and deleted again
+
+    /** Method Name: setUp
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Generates and loads the binary file and picks the names to look up
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: BenchmarkFiles, CharacterUtils
+     * Throws/Exceptions: IOException
+     */
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("charactermanager-bench");
+        myHelper = new CharacterUtils(size);
+        myHelper.userBinaryFileChoiceToArray(BenchmarkFiles.createBinaryFile(directory, size).toString());
+        names = new String[NUMBER_OF_NAMES];
+        for (int i = 0; i < NUMBER_OF_NAMES; i++) names[i] = "NPC " + (1 + (int) ((long) i * size / NUMBER_OF_NAMES));
+        nextName = 0;
+        newCharacter = new Character();
+        newCharacter.setName("Benchmark Hero");
+        newCharacter.setRace(Race.ELF);
+        newCharacter.setClassOfCharacter(CharacterClass.MAGE);
+        newCharacter.generateStats();
+        newCharacter.setLevel(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        myHelper.close();
+        BenchmarkFiles.deleteDirectory(directory);
+    }
+
+    @Benchmark
+    public int findCharacterIndex() {
+        return myHelper.findCharacterIndex(names[nextName++ & (NUMBER_OF_NAMES - 1)]);
+    }
+
+    @Benchmark
+    public int findMissingCharacterIndex() {
+        return myHelper.findCharacterIndex("Nobody Atall");
+    }
+
+    /** Method Name: addAndDeleteCharacter
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Adds a character and deletes it again, the same slot is reused every time so the roster does not grow
+     * @Parameters N/A
+     * @Returns Whether the character was deleted, Data Type: Boolean
+     * Dependencies: CharacterUtils
+     * Throws/Exceptions: IOException
+     */
+
+    @Benchmark
+    public boolean addAndDeleteCharacter() throws IOException {
+        myHelper.addCharacterIfAbsent(new Character(newCharacter));
+        return myHelper.deleteCharacter(newCharacter.getName());
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: JMH benchmarks of encoding and decoding a single record in each format
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RecordBenchmark {
+
+    @Param({"V1", "V2"})
+    private RecordFormat format; // the layout of the record being encoded and decoded
+
+    private ByteBuffer buffer; // holds the encoded record
+    private Character character; // the character being encoded, or decoded into
+
+    @Setup
+    public void setUp() {
+        buffer = ByteBuffer.allocate(format.getRecordLength());
+        character = new Character();
+        character.setName("Malloc Dragonslayer");
+        character.setRace(Race.HUMAN);
+        character.setClassOfCharacter(CharacterClass.WARRIOR);
+        character.generateStats();
+        character.setLevel(5);
+        format.writeRecord(character, buffer, 0);
+    }
+
+    @Benchmark
+    public ByteBuffer writeRecord() {
+        format.writeRecord(character, buffer, 0);
+        return buffer;
+    }
+
+    @Benchmark
+    public Character readRecord() {
+        format.readRecord(buffer, 0, character);
+        return character;
+    }
+}
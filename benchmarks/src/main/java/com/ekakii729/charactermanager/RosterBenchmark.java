@@ -0,0 +1,71 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: JMH benchmarks of totalling every stat of the object roster against the columnar roster, the heap each roster takes is printed when it is filled
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RosterBenchmark {
+
+    private final static Stat[] STATS = Stat.values(); // the stats that are totalled
+
+    @Param({"object", "columnar"})
+    private String rosterType; // the layout of the roster
+
+    @Param({"10", "1000", "100000", "1000000", "10000000"})
+    private int size; // the number of characters in the roster
+
+    private Roster roster; // the roster the stats are totalled over
+
+    /** Method Name: usedMemory
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets the amount of heap in use after asking for a garbage collection
+     * @Parameters N/A
+     * @Returns The bytes of heap in use, Data Type: Long
+     * Dependencies: Runtime
+     * Throws/Exceptions: N/A
+     */
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime(); // the runtime of the benchmark
+        for (int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /** Method Name: setUp
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Fills the roster with characters and prints how much heap it takes
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: BenchmarkFiles, ObjectRoster, ColumnarRoster
+     * Throws/Exceptions: N/A
+     */
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long memoryBefore = usedMemory(); // the heap in use before the roster is filled
+        roster = rosterType.equals("columnar") ? new ColumnarRoster(size) : new ObjectRoster(size);
+        for (Character character : BenchmarkFiles.createCharacters(size)) roster.append(character);
+        System.out.printf("\n%s roster of %d characters: %.1f MB of heap\n", rosterType, size, (usedMemory() - memoryBefore) / (1024.0 * 1024.0));
+    }
+
+    @Benchmark
+    public long sumEveryStat() {
+        long checksum = 0; // the totals, returned so they are not optimised away
+        for (Stat stat : STATS) checksum += roster.sum(stat) + roster.max(stat);
+        return checksum;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: JMH benchmarks of saving and loading every record of a binary file through each character store, and through the buffered whole file path of bulk mode
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StoreBenchmark {
+
+    @Param({"file", "mapped", "bulk"})
+    private String storeType; // the store the records are saved and loaded through
+
+    @Param({"10", "1000", "100000", "1000000", "10000000"})
+    private int size; // the number of characters in the file
+
+    private Path directory; // holds the files of the benchmark
+    private Path saveFile; // the file that is saved
+    private Path loadFile; // the file that is loaded, written once before measuring
+    private Character[] characters; // the characters that are saved
+    private ObjectRoster roster; // the same characters as a roster, for bulk mode
+
+    /** Method Name: setUp
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Creates the characters and writes the file that is loaded
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: BenchmarkFiles, ObjectRoster
+     * Throws/Exceptions: IOException
+     */
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("charactermanager-bench");
+        saveFile = directory.resolve("save.bin");
+        loadFile = directory.resolve("load.bin");
+        characters = BenchmarkFiles.createCharacters(size);
+        roster = new ObjectRoster(size);
+        for (Character character : characters) roster.append(character);
+        BulkRecordFile.writeAll(loadFile.toString(), roster);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkFiles.deleteDirectory(directory);
+    }
+
+    /** Method Name: openStore
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Opens a store of the benchmarked type over a file
+     * @Parameters file - the binary file
+     * @Returns The opened store, Data Type: CharacterStore
+     * Dependencies: MappedCharacterStore, RandomAccessCharacterStore
+     * Throws/Exceptions: IOException
+     */
+
+    private CharacterStore openStore(Path file) throws IOException {
+        return storeType.equals("mapped") ? new MappedCharacterStore(file.toString()) : new RandomAccessCharacterStore(file.toString());
+    }
+
+    /** Method Name: saveRecords
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Writes every character to the file one record at a time, or all at once in bulk mode, and forces it to disk
+     * @Parameters N/A
+     * @Returns The number of records saved, Data Type: Integer
+     * Dependencies: CharacterStore, BulkRecordFile
+     * Throws/Exceptions: IOException
+     */
+
+    @Benchmark
+    public int saveRecords() throws IOException {
+        if (storeType.equals("bulk")) {
+            BulkRecordFile.writeAll(saveFile.toString(), roster);
+            return size;
+        } try (CharacterStore store = openStore(saveFile)) { // the store the records are written through
+            store.setNumberOfRecords(size);
+            for (int i = 0; i < size; i++) store.writeRecord(i, characters[i]);
+            store.flush();
+            return store.getNumberOfRecords();
+        }
+    }
+
+    /** Method Name: loadRecords
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Reads every record of the file one at a time, or all at once in bulk mode
+     * @Parameters N/A
+     * @Returns The number of records loaded, Data Type: Integer
+     * Dependencies: CharacterStore, BulkRecordFile
+     * Throws/Exceptions: IOException
+     */
+
+    @Benchmark
+    public int loadRecords() throws IOException {
+        if (storeType.equals("bulk")) {
+            ObjectRoster loaded = new ObjectRoster(0); // the roster the file is read into
+            BulkRecordFile.readAll(loadFile.toString(), loaded);
+            return loaded.size();
+        } try (CharacterStore store = openStore(loadFile)) { // the store the records are read through
+            Character character = new Character(); // the character every record is read into
+            for (int i = 0; i < store.getNumberOfRecords(); i++) store.readRecord(i, character);
+            return store.getNumberOfRecords();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Keeps track of the slots of a roster and the stack of deleted slots, leaving how characters are stored in a slot to the subclass
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.util.Arrays;
+
+public abstract class AbstractRoster implements Roster {
+
+    protected int numberOfSlots; // the number of slots in use, including deleted ones
+    private int[] freeSlots; // stack of deleted slots that can be given to new characters
+    private int numberOfFreeSlots; // the number of slots on the free stack
+    protected final static int MIN_CAPACITY = 16; // the smallest capacity the slots grow to
+
+    protected AbstractRoster() {
+        numberOfSlots = 0;
+        freeSlots = new int[0];
+        numberOfFreeSlots = 0;
+    }
+
+    /** Method Name: ensureCapacity
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Makes room for at least a number of slots
+     * @Parameters capacity - the number of slots that need to fit
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    protected abstract void ensureCapacity(int capacity);
+
+    /** Method Name: erase
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Empties a slot so it reads as free
+     * @Parameters slot - the slot being emptied
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    protected abstract void erase(int slot);
+
+    /** Method Name: move
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Moves the character in one slot to a lower slot, used while compacting
+     * @Parameters fromSlot - the slot the character is in, toSlot - the slot the character is moved to
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    protected abstract void move(int fromSlot, int toSlot);
+
+    public int add(Character character) {
+        if (numberOfFreeSlots > 0) {
+            int slot = freeSlots[--numberOfFreeSlots]; // the deleted slot being reused
+            set(slot, character);
+            return slot;
+        } return append(character);
+    }
+
+    public int append(Character character) {
+        ensureCapacity(numberOfSlots + 1);
+        int slot = numberOfSlots++; // the slot at the end of the roster
+        if (character == null) {
+            erase(slot);
+            pushFreeSlot(slot);
+        } else set(slot, character);
+        return slot;
+    }
+
+    public Character remove(int slot) {
+        if (isFree(slot)) return null;
+        Character character = get(slot); // the character being deleted
+        erase(slot);
+        pushFreeSlot(slot);
+        return character;
+    }
+
+    protected void pushFreeSlot(int slot) {
+        if (numberOfFreeSlots == freeSlots.length) freeSlots = Arrays.copyOf(freeSlots, Math.max(MIN_CAPACITY, freeSlots.length * 2));
+        freeSlots[numberOfFreeSlots++] = slot;
+    }
+
+    /** Method Name: clear
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Removes every slot from the roster while keeping the allocated capacity
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    public void clear() {
+        for (int i = 0; i < numberOfSlots; i++) erase(i);
+        resetSlots();
+    }
+
+    protected void resetSlots() {
+        numberOfSlots = 0;
+        numberOfFreeSlots = 0;
+    }
+
+    /** Method Name: compact
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Moves every character down to fill deleted slots, keeping their order, so the roster has no free slots left
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    public void compact() {
+        int newNumberOfSlots = 0; // the number of slots once the deleted ones are removed
+        for (int i = 0; i < numberOfSlots; i++) {
+            if (isFree(i)) continue;
+            if (i != newNumberOfSlots) move(i, newNumberOfSlots);
+            newNumberOfSlots++;
+        } for (int i = newNumberOfSlots; i < numberOfSlots; i++) erase(i);
+        numberOfSlots = newNumberOfSlots;
+        numberOfFreeSlots = 0;
+    }
+
+    /** Method Name: toArray
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets every character in the roster in slot order, skipping deleted slots
+     * @Parameters N/A
+     * @Returns The characters, Data Type: Character[]
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    public Character[] toArray() {
+        Character[] characters = new Character[size()]; // the characters that have not been deleted
+        int charactersPointer = 0; // pointer used to access elements in the characters array
+        for (int i = 0; i < numberOfSlots; i++) if (!isFree(i)) characters[charactersPointer++] = get(i);
+        return characters;
+    }
+
+    public long sum(Stat stat) {
+        long total = 0; // the total of the stat so far
+        for (int i = 0; i < numberOfSlots; i++) if (!isFree(i)) total += getStat(i, stat);
+        return total;
+    }
+
+    public int min(Stat stat) {
+        int lowest = Integer.MAX_VALUE; // the lowest value of the stat so far
+        for (int i = 0; i < numberOfSlots; i++) if (!isFree(i)) lowest = Math.min(lowest, getStat(i, stat));
+        return lowest;
+    }
+
+    public int max(Stat stat) {
+        int highest = Integer.MIN_VALUE; // the highest value of the stat so far
+        for (int i = 0; i < numberOfSlots; i++) if (!isFree(i)) highest = Math.max(highest, getStat(i, stat));
+        return highest;
+    }
+
+    public int getNumberOfSlots() {
+        return numberOfSlots;
+    }
+
+    public int getNumberOfFreeSlots() {
+        return numberOfFreeSlots;
+    }
+
+    public int size() {
+        return numberOfSlots - numberOfFreeSlots;
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Runs a script of character manager commands without prompting, one command per line (ex. levelup "Malloc Dragonslayer" 2), every changed record is written once when the script ends
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class BatchRunner {
+
+    private final CharacterUtils myHelper; // CharacterUtils object the commands are run on
+    private int numberOfCommands; // the number of commands that have been run
+    private int numberOfFailures; // the number of commands that could not be run
+    private int numberOfWrites; // the number of records written by the batch
+
+    public BatchRunner(CharacterUtils myHelper) {
+        this.myHelper = myHelper;
+        numberOfCommands = 0;
+        numberOfFailures = 0;
+        numberOfWrites = 0;
+    }
+
+    /** Method Name: tokenize
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Splits a line into words at spaces, text in double quotes is kept as one word so names can have spaces, a backslash in quotes keeps the next character as it is and a # outside quotes starts a comment
+     * @Parameters line - the line being split
+     * @Returns The words of the line, Data Type: List<String>
+     * Dependencies: ArrayList
+     * Throws/Exceptions: IllegalArgumentException
+     */
+
+    static List<String> tokenize(String line) {
+        List<String> words = new ArrayList<>(); // the words found so far
+        StringBuilder word = new StringBuilder(); // the word being read
+        boolean isInWord = false; // whether a word has been started
+        boolean isQuoted = false; // whether the current character is inside quotes
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i); // the character being read
+            if (isQuoted) {
+                if (c == '"') isQuoted = false;
+                else if (c == '\\' && i + 1 < line.length()) word.append(line.charAt(++i));
+                else word.append(c);
+            } else if (c == '"') isInWord = isQuoted = true;
+            else if (c == '#' && !isInWord) break;
+            else if (java.lang.Character.isWhitespace(c)) {
+                if (isInWord) words.add(word.toString());
+                word.setLength(0);
+                isInWord = false;
+            } else {
+                word.append(c);
+                isInWord = true;
+            }
+        } if (isQuoted) throw new IllegalArgumentException("A quote was not closed.");
+        if (isInWord) words.add(word.toString());
+        return words;
+    }
+
+    /** Method Name: run
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Runs every command of a script as one batch, a command that cannot be run is reported with its line number and the rest still run
+     * @Parameters reader - reads the lines of the script
+     * @Returns The number of commands that could not be run, Data Type: Integer
+     * Dependencies: BufferedReader, CharacterUtils
+     * Throws/Exceptions: IOException
+     */
+
+    public int run(BufferedReader reader) throws IOException {
+        myHelper.beginBatch();
+        try {
+            String line; // the line being run
+            int lineNumber = 0; // the number of the line being run
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                try {
+                    List<String> words = tokenize(line); // the command and its arguments
+                    if (words.isEmpty()) continue;
+                    numberOfCommands++;
+                    runCommand(words);
+                } catch (IllegalArgumentException e) {
+                    numberOfFailures++;
+                    System.out.println("Line " + lineNumber + ": " + e.getMessage());
+                }
+            }
+        } finally {
+            numberOfWrites += myHelper.endBatch();
+        } System.out.println(numberOfCommands + " command(s) run, " + numberOfFailures + " failed, " + numberOfWrites + " record(s) written.");
+        return numberOfFailures;
+    }
+
+    /** Method Name: runCommand
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Runs a single command on the characters
+     * @Parameters words - the command followed by its arguments
+     * @Returns N/A, Data Type: Void
+     * Dependencies: CharacterUtils, Character, Stat, CharacterGenerator, OperationMetrics
+     * Throws/Exceptions: IllegalArgumentException, IOException
+     */
+
+    private void runCommand(List<String> words) throws IOException {
+        switch (words.get(0).toLowerCase(Locale.ROOT)) {
+            case "load" -> {
+                checkArguments(words, 1, 1, "load <binary file>");
+                myHelper.userBinaryFileChoiceToArray(words.get(1));
+            } case "import" -> {
+                checkArguments(words, 1, 1, "import <text file>");
+                myHelper.userTextFileChoiceToArray(words.get(1));
+            } case "save" -> {
+                checkArguments(words, 0, 1, "save [binary file]");
+                myHelper.writeToFile(words.size() == 1 ? myHelper.getBinaryFileName() : words.get(1));
+            } case "add" -> {
+                checkArguments(words, 3, 4, "add <name> <race> <class> [level]");
+                if (myHelper.findCharacterIndex(words.get(1)) != -1) throw new IllegalArgumentException("A character named " + words.get(1) + " already exists.");
+                Character character = new Character(); // the character being added
+                character.setName(words.get(1));
+                character.setRace(words.get(2));
+                character.setClassOfCharacter(words.get(3));
+                character.generateStats();
+                character.setLevel(1);
+                if (words.size() > 4) character.levelUp(Integer.parseInt(words.get(4)) - 1);
+                myHelper.addCharacter(character);
+            } case "delete" -> {
+                checkArguments(words, 1, 1, "delete <name>");
+                myHelper.deleteCharacter(findCharacter(words.get(1)));
+            } case "race" -> {
+                checkArguments(words, 2, 2, "race <name> <race>");
+                int characterIndex = findCharacter(words.get(1)); // index of the character
+                Character character = myHelper.getCharacter(characterIndex); // the character being changed
+                character.changeRace(words.get(2));
+                myHelper.updateCharacter(characterIndex, character);
+            } case "class" -> {
+                checkArguments(words, 2, 2, "class <name> <class>");
+                int characterIndex = findCharacter(words.get(1)); // index of the character
+                Character character = myHelper.getCharacter(characterIndex); // the character being changed
+                character.changeClass(words.get(2));
+                myHelper.updateCharacter(characterIndex, character);
+            } case "level" -> {
+                checkArguments(words, 2, 2, "level <name> <level>");
+                int characterIndex = findCharacter(words.get(1)); // index of the character
+                Character character = myHelper.getCharacter(characterIndex); // the character being changed
+                character.levelUp(Integer.parseInt(words.get(2)) - character.getLevel());
+                myHelper.updateCharacter(characterIndex, character);
+            } case "levelup" -> {
+                checkArguments(words, 1, 2, "levelup <name> [number of levels]");
+                int characterIndex = findCharacter(words.get(1)); // index of the character
+                Character character = myHelper.getCharacter(characterIndex); // the character being changed
+                character.levelUp(words.size() > 2 ? Integer.parseInt(words.get(2)) : 1);
+                myHelper.updateCharacter(characterIndex, character);
+            } case "set" -> {
+                checkArguments(words, 3, 3, "set <name> <stat> <value>");
+                Stat stat = Stat.fromName(words.get(2)); // the stat being set
+                if (stat == null) throw new IllegalArgumentException(words.get(2) + " is not a valid stat.");
+                int characterIndex = findCharacter(words.get(1)); // index of the character
+                Character character = myHelper.getCharacter(characterIndex); // the character being changed
+                character.setStat(stat, Integer.parseInt(words.get(3)));
+                myHelper.updateCharacter(characterIndex, character);
+            } case "rename" -> {
+                checkArguments(words, 2, 2, "rename <name> <new name>");
+                int characterIndex = findCharacter(words.get(1)); // index of the character
+                if (myHelper.findCharacterIndex(words.get(2)) != -1 && myHelper.findCharacterIndex(words.get(2)) != characterIndex) throw new IllegalArgumentException("A character named " + words.get(2) + " already exists.");
+                myHelper.renameCharacter(characterIndex, words.get(2));
+            } case "print" -> {
+                checkArguments(words, 0, 1, "print [name]");
+                if (words.size() == 1) myHelper.printAllCharacters();
+                else myHelper.getCharacter(findCharacter(words.get(1))).display();
+            } case "search" -> {
+                checkArguments(words, 1, 1, "search <part of name>");
+                for (Character character : myHelper.searchByName(words.get(1), 10)) character.display();
+            } case "summary" -> {
+                checkArguments(words, 0, 0, "summary");
+                myHelper.printStatSummary();
+            } case "cache" -> {
+                checkArguments(words, 0, 1, "cache [capacity]");
+                RecordCache cache = myHelper.getRecordCache(); // the cache of decoded characters
+                if (cache == null) throw new IllegalArgumentException("There is no record cache, characters are only cached when they are loaded lazily.");
+                if (words.size() > 1) cache.setCapacity(Integer.parseInt(words.get(1)));
+                System.out.println("Record cache: " + cache);
+            } case "generate" -> {
+                checkArguments(words, 1, 6, "generate <count> [races=Human:3,Elf:1] [classes=Mage:2,Rogue:1] [levels=1-20] [prefix=NPC] [seed=42]");
+                CharacterGenerator generator = new CharacterGenerator(); // picks the races, classes, levels and names
+                for (String option : words.subList(2, words.size())) generator.option(option);
+                myHelper.generateCharacters(generator, Integer.parseInt(words.get(1)));
+            } case "stats" -> {
+                checkArguments(words, 0, 1, "stats [reset]");
+                if (words.size() > 1 && !words.get(1).equalsIgnoreCase("reset")) throw new IllegalArgumentException("Usage: stats [reset]");
+                myHelper.printOperationStatistics();
+                if (words.size() > 1) myHelper.getMetrics().reset();
+            } case "flush" -> {
+                checkArguments(words, 0, 0, "flush");
+                numberOfWrites += myHelper.flushDirtyRecords();
+            } default -> throw new IllegalArgumentException(words.get(0) + " is not a valid command.");
+        }
+    }
+
+    /** Method Name: checkArguments
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Checks that a command was given a number of arguments it accepts
+     * @Parameters words - the command followed by its arguments, min - the fewest arguments allowed, max - the most arguments allowed, usage - how the command is written
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: IllegalArgumentException
+     */
+
+    private static void checkArguments(List<String> words, int min, int max, String usage) {
+        if (words.size() - 1 < min || words.size() - 1 > max) throw new IllegalArgumentException("Usage: " + usage);
+    }
+
+    /** Method Name: findCharacter
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets index of a character by name
+     * @Parameters name - the name of the character
+     * @Returns The index of the character, Data Type: Integer
+     * Dependencies: CharacterUtils
+     * Throws/Exceptions: IllegalArgumentException
+     */
+
+    private int findCharacter(String name) {
+        int characterIndex = myHelper.findCharacterIndex(name); // index of the character
+        if (characterIndex == -1) throw new IllegalArgumentException(myHelper.getNotFoundMessage(name));
+        return characterIndex;
+    }
+
+    public int getNumberOfWrites() {
+        return numberOfWrites;
+    }
+}
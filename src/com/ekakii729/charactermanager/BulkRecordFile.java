@@ -0,0 +1,129 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Loads and saves a whole binary file of character records through large buffers, so the speed is limited by the disk instead of the number of system calls
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+
+public class BulkRecordFile {
+
+    private final static int RECORDS_PER_CHUNK = 8192; // the number of records read or written with a single system call
+
+    /** Method Name: readAll
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Reads every record of a binary file in whichever format it was saved in into a roster, tombstone records become free slots
+     * @Parameters fileName - the name of the binary file, characters - the roster being filled
+     * @Returns N/A, Data Type: Void
+     * Dependencies: FileChannel, ByteBuffer, Roster
+     * Throws/Exceptions: IOException
+     */
+
+    public static void readAll(String fileName, Roster characters) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) { // accesses binary file
+            RecordFormat format = RecordFormat.detect(channel); // the layout of the records in the file
+            characters.clear();
+            if (format == null) return;
+            int recordLength = format.getRecordLength(); // the length of a record in bytes
+            ByteBuffer chunk = ByteBuffer.allocateDirect(RECORDS_PER_CHUNK * recordLength); // holds the records read by one system call
+            long numberOfRecords = format.countRecords(channel); // the number of complete records in the file
+            channel.position(format.getHeaderLength());
+            while (characters.getNumberOfSlots() < numberOfRecords) {
+                int chunkRecords = (int) Math.min(RECORDS_PER_CHUNK, numberOfRecords - characters.getNumberOfSlots()); // the records in this chunk
+                chunk.clear().limit(chunkRecords * recordLength);
+                while (chunk.hasRemaining()) if (channel.read(chunk) < 0) throw new IOException("File ended while reading record " + characters.getNumberOfSlots());
+                for (int i = 0; i < chunkRecords; i++) {
+                    Character character = new Character(); // the character being read
+                    format.readRecord(chunk, i * recordLength, character);
+                    characters.append(character.isTombstone() ? null : character);
+                }
+            }
+        }
+    }
+
+    /** Method Name: readSlots
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Opens a lazy roster on a binary file, only the tombstone flag of each record is checked so no characters are made
+     * @Parameters fileName - the name of the binary file, characters - the lazy roster being opened
+     * @Returns N/A, Data Type: Void
+     * Dependencies: FileChannel, ByteBuffer, BitSet, LazyRoster
+     * Throws/Exceptions: IOException
+     */
+
+    public static void readSlots(String fileName, LazyRoster characters) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) { // accesses binary file
+            RecordFormat format = RecordFormat.detect(channel); // the layout of the records in the file
+            BitSet deletedSlots = new BitSet(); // the records that are tombstones
+            if (format == null) {
+                characters.open(0, deletedSlots);
+                return;
+            } int recordLength = format.getRecordLength(); // the length of a record in bytes
+            ByteBuffer chunk = ByteBuffer.allocateDirect(RECORDS_PER_CHUNK * recordLength); // holds the records read by one system call
+            int numberOfRecords = format.countRecords(channel); // the number of complete records in the file
+            channel.position(format.getHeaderLength());
+            for (int first = 0; first < numberOfRecords; first += RECORDS_PER_CHUNK) {
+                int chunkRecords = Math.min(RECORDS_PER_CHUNK, numberOfRecords - first); // the records in this chunk
+                chunk.clear().limit(chunkRecords * recordLength);
+                while (chunk.hasRemaining()) if (channel.read(chunk) < 0) throw new IOException("File ended while reading record " + first);
+                for (int i = 0; i < chunkRecords; i++) if (format.isTombstone(chunk, i * recordLength)) deletedSlots.set(first + i);
+            } characters.open(numberOfRecords, deletedSlots);
+        }
+    }
+
+    /** Method Name: writeAll
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Replaces the content of a binary file with every slot of a roster in the default format and forces it onto the disk, free slots are written as tombstones
+     * @Parameters fileName - the name of the binary file, characters - the roster being saved
+     * @Returns N/A, Data Type: Void
+     * Dependencies: Roster
+     * Throws/Exceptions: IOException
+     */
+
+    public static void writeAll(String fileName, Roster characters) throws IOException {
+        writeAll(fileName, characters, false);
+    }
+
+    /** Method Name: writeAll
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Replaces the content of a binary file with the slots of a roster in the default format and forces it onto the disk. Free slots are either written as tombstones or left out, which writes the file the roster would have once compacted without changing the roster
+     * @Parameters fileName - the name of the binary file, characters - the roster being saved, isCompacted - whether free slots are left out
+     * @Returns N/A, Data Type: Void
+     * Dependencies: FileChannel, ByteBuffer, Roster
+     * Throws/Exceptions: IOException
+     */
+
+    public static void writeAll(String fileName, Roster characters, boolean isCompacted) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) { // accesses binary file
+            RecordFormat format = RecordFormat.getDefault(); // the layout the records are saved in
+            int recordLength = format.getRecordLength(); // the length of a record in bytes
+            int numberOfRecords = isCompacted ? characters.size() : characters.getNumberOfSlots(); // the number of records in the file
+            ByteBuffer chunk = ByteBuffer.allocateDirect(RECORDS_PER_CHUNK * recordLength); // holds the records written by one system call
+            Character tombstone = Character.createTombstone(); // written in place of deleted characters
+            channel.truncate(format.getOffset(numberOfRecords));
+            format.writeHeader(channel, numberOfRecords);
+            int slot = 0; // the slot written next
+            for (int first = 0; first < numberOfRecords; first += RECORDS_PER_CHUNK) {
+                int chunkRecords = Math.min(RECORDS_PER_CHUNK, numberOfRecords - first); // the records in this chunk
+                chunk.clear().limit(chunkRecords * recordLength);
+                for (int i = 0; i < chunkRecords; i++, slot++) {
+                    if (isCompacted) while (characters.isFree(slot)) slot++;
+                    format.writeRecord(characters.isFree(slot) ? tombstone : characters.get(slot), chunk, i * recordLength);
+                } while (chunk.hasRemaining()) channel.write(chunk, format.getOffset(first) + chunk.position());
+            } channel.force(true);
+        }
+    }
+}
@@ -5,27 +5,34 @@
  */
 
 package com.ekakii729.charactermanager;
-import java.io.IOException;
-import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public class Character {
 
     private String name; // the name of the character
-    private String race; //  the race of the character
-    private String classOfCharacter; // the class of the character
+    private Race race; //  the race of the character
+    private CharacterClass classOfCharacter; // the class of the character
     private int level; // the level of the character
     private int hitPoints; // the hit points of the character
-    private int strength; //  the strength of the character
-    private int constitution; // the constitution of the character
-    private int intelligence; // the intelligence of the character
-    private int wisdom; // the wisdom of the character
-    private int dexterity; // the dexterity of the character
-    private int charisma; // the charisma of the character
+    private final int[] abilities; // the ability scores of the character, indexed from STRENGTH to CHARISMA
+    public final static int STRENGTH = 0; // index of strength in the ability scores
+    public final static int CONSTITUTION = 1; // index of constitution in the ability scores
+    public final static int INTELLIGENCE = 2; // index of intelligence in the ability scores
+    public final static int WISDOM = 3; // index of wisdom in the ability scores
+    public final static int DEXTERITY = 4; // index of dexterity in the ability scores
+    public final static int CHARISMA = 5; // index of charisma in the ability scores
+    public final static int NUMBER_OF_ABILITIES = 6; // the number of ability scores a character has
     private final static int MAX_STRING_LENGTH = 20; // a string in this program can only be 20 characters long
     private final static long RECORD_LENGTH = 152; // the max length of a record is 152 bytes
-    private final static Random random = new Random(); // a random object used to generate random numbers
+    private final static int COMPACT_RECORD_LENGTH = 60; // the length of a record in the compact (version 2) format
+    private final static int MAX_NAME_BYTES = 40; // the most bytes of UTF-8 a name can take up in a compact record
+    private final static int TOMBSTONE_LEVEL = Integer.MIN_VALUE; // the level stored in the record of a deleted character
+    public final static int MIN_STAT_VALUE = Short.MIN_VALUE; // the lowest value a stat can be set to, the lowest number a compact record holds
+    public final static int MAX_STAT_VALUE = Short.MAX_VALUE; // the highest value a stat can be set to, the highest number a compact record holds
+    private final static Stat[] STATS = Stat.values(); // every numeric stat, in the order of a record
 
     public Character() {
         name = null;
@@ -33,134 +40,148 @@ public class Character {
         classOfCharacter = null;
         level = -1;
         hitPoints = -1;
-        strength = -1;
-        constitution = -1;
-        intelligence = -1;
-        wisdom = -1;
-        dexterity = -1;
-        charisma = -1;
+        abilities = new int[NUMBER_OF_ABILITIES];
+        Arrays.fill(abilities, -1);
     }
 
-    /** Method Name: diceRoll
-     * @Author Abhay Manoj
-     * @Date October 2, 2023
-     * @Modified October 2, 2023
-     * @Description Generates a random number from 1 to the number passed in
-     * @Parameters numberOfSides - the number of sides of the dice being rolled
-     * @Returns The random number that was rolled, Data Type: Integer
-     * Dependencies: Random
-     * Throws/Exceptions: N/A
-     */
-
-    private int diceRoll(int numberOfSides) {
-        return random.nextInt(numberOfSides) + 1;
+    public Character(Character character) {
+        name = character.name;
+        race = character.race;
+        classOfCharacter = character.classOfCharacter;
+        level = character.level;
+        hitPoints = character.hitPoints;
+        abilities = character.abilities.clone();
     }
 
-    /** Method Name: removeSmallestElement
+    /** Method Name: rollDice
      * @Author Abhay Manoj
-     * @Date October 3, 2023
-     * @Modified October 3, 2023
-     * @Description Removes the smallest element in the array
-     * @Parameters array - the array to be shortened
-     * @Returns The array without its smallest element, Data Type: Integer[]
-     * Dependencies: N/A
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Rolls a number of dice and adds them up without allocating, as many dice as fit in an int are taken from a single random number by reading it digit by digit in base numberOfSides, which keeps every die uniform and independent
+     * @Parameters numberOfDice - the number of dice being rolled, numberOfSides - the number of sides on each die, dice - the generator the dice are rolled with
+     * @Returns The sum of the rolls, or 0 if no dice are rolled, Data Type: Integer
+     * Dependencies: RandomGenerator
      * Throws/Exceptions: N/A
      */
 
-    private int[] removeSmallestElement(int[] array) {
-        Arrays.sort(array);
-        int[] newArray = new int[array.length - 1]; // an array with a smaller size than the original by 1
-        int newArrayCounter = 0; // counter used to access elements in the newArray
-        for (int i = 1; i < array.length; i++) {
-            newArray[newArrayCounter] = array[i];
-            newArrayCounter++;
-        } return newArray;
+    private static int rollDice(int numberOfDice, int numberOfSides, RandomGenerator dice) {
+        int rollSum = 0; // the sum of the rolls so far
+        while (numberOfDice > 0) {
+            int bound = 1; // the number of outcomes of the dice taken from the next random number
+            int diceInDraw = 0; // the number of dice taken from the next random number
+            while (diceInDraw < numberOfDice && bound <= Integer.MAX_VALUE / numberOfSides) {
+                bound *= numberOfSides;
+                diceInDraw++;
+            } int draw = dice.nextInt(bound); // holds one roll in each base numberOfSides digit
+            for (int i = 0; i < diceInDraw; i++) {
+                rollSum += draw % numberOfSides + 1;
+                draw /= numberOfSides;
+            } numberOfDice -= diceInDraw;
+        } return rollSum;
     }
 
     /** Method Name: generateStat
      * @Author Abhay Manoj
      * @Date October 3, 2023
-     * @Modified October 3, 2023
-     * @Description Generates a random number for a stat of the character
-     * @Parameters N/A
-     * @Returns The sum of the rolls, Data Type: Integer
-     * Dependencies: N/A
+     * @Modified October 17, 2026
+     * @Description Generates a random number for a stat of the character by rolling four six sided dice and dropping the lowest, the four rolls come from one random number and the lowest is subtracted from their running sum so nothing is allocated or sorted
+     * @Parameters dice - the generator the dice are rolled with
+     * @Returns The sum of the three highest rolls, Data Type: Integer
+     * Dependencies: RandomGenerator
      * Throws/Exceptions: N/A
      */
 
-    private int generateStat() {
+    private static int generateStat(RandomGenerator dice) {
         final int NUMBER_OF_ROLLS = 4; // the number of rolls that will be done
         final int NUMBER_OF_SIDES = 6; //  the number of sides on the dice
-        int[] rolls = new int[NUMBER_OF_ROLLS]; // an array containing all the rolls
-        for (int i = 0; i < NUMBER_OF_ROLLS; i++) rolls[i] = diceRoll(NUMBER_OF_SIDES);
-        rolls = removeSmallestElement(rolls);
-        int rollSum = 0; // the sum of the elements in the rolls array
-        for (int i : rolls) rollSum += i;
-        return rollSum;
+        final int NUMBER_OF_OUTCOMES = 1296; // the number of outcomes of four six sided dice
+        int draw = dice.nextInt(NUMBER_OF_OUTCOMES); // holds one roll in each base 6 digit
+        int rollSum = 0; // the sum of all the rolls
+        int smallestRoll = NUMBER_OF_SIDES; // the lowest roll, which is dropped
+        for (int i = 0; i < NUMBER_OF_ROLLS; i++) {
+            int roll = draw % NUMBER_OF_SIDES + 1; // the roll of the current die
+            draw /= NUMBER_OF_SIDES;
+            rollSum += roll;
+            if (roll < smallestRoll) smallestRoll = roll;
+        } return rollSum - smallestRoll;
     }
 
     /** Method Name: generateStats
      * @Author Abhay Manoj
      * @Date October 3, 2023
-     * @Modified October 3, 2023
-     * @Description Assigns each stat to a number from 3 to 18
+     * @Modified October 17, 2026
+     * @Description Assigns each stat to a number from 3 to 18, rolled with the generator of the calling thread
      * @Parameters N/A
      * @Returns N/A, Data Type: Void
-     * Dependencies: N/A
+     * Dependencies: Dice
      * Throws/Exceptions: N/A
      */
 
     public void generateStats() {
-        hitPoints = generateStat();
-        strength = generateStat();
-        constitution = generateStat();
-        intelligence = generateStat();
-        wisdom = generateStat();
-        dexterity = generateStat();
-        charisma = generateStat();
+        generateStats(Dice.current());
+    }
+
+    /** Method Name: generateStats
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Assigns each stat to a number from 3 to 18, rolled with the given generator
+     * @Parameters dice - the generator the stats are rolled with
+     * @Returns N/A, Data Type: Void
+     * Dependencies: RandomGenerator
+     * Throws/Exceptions: N/A
+     */
+
+    public void generateStats(RandomGenerator dice) {
+        hitPoints = generateStat(dice);
+        for (int i = 0; i < NUMBER_OF_ABILITIES; i++) abilities[i] = generateStat(dice);
     }
 
     /** Method Name: calculateIncreaseOfHitPoints
      * @Author Abhay Manoj
      * @Date October 3, 2023
-     * @Modified October 3, 2023
-     * @Description Calculates the increase of hit points based on character class
-     * @Parameters N/A
+     * @Modified October 17, 2026
+     * @Description Calculates the increase of hit points over a number of levels by rolling the hit die of the character class once for each level, the rolls are batched so several levels share one random number
+     * @Parameters numberOfLevels - the number of levels gained, dice - the generator the hit dice are rolled with
      * @Returns The needed increase of hit points, Data Type: Integer
-     * Dependencies: N/A
+     * Dependencies: CharacterClass
      * Throws/Exceptions: N/A
      */
 
-    private int calculateIncreaseOfHitPoints() {
-        int increaseHitPoints = 0; // the amount that the characters hit points is going to increase
-        final int MAX_WARRIOR_INCREASE = 10; // warriors hit points go up by 10 points max
-        final int MAX_CLERIC_INCREASE = 8; // clerics hit points go up by 8 points max
-        final int MAX_ROGUE_INCREASE = 6; // rogues hit points go up by 6 points max
-        final int MAX_MAGE_INCREASE = 4; // mages hit points go up by 4 points max
-        switch (classOfCharacter) {
-            case "Warrior" -> increaseHitPoints = diceRoll(MAX_WARRIOR_INCREASE);
-            case "Cleric" -> increaseHitPoints = diceRoll(MAX_CLERIC_INCREASE);
-            case "Ranger", "Bard", "Rogue", "Range" -> increaseHitPoints = diceRoll(MAX_ROGUE_INCREASE);
-            case "Mage" -> increaseHitPoints = diceRoll(MAX_MAGE_INCREASE);
-            default -> {
-            }
-        } return increaseHitPoints;
+    private int calculateIncreaseOfHitPoints(int numberOfLevels, RandomGenerator dice) {
+        return classOfCharacter == null ? 0 : rollDice(numberOfLevels, classOfCharacter.getHitDie(), dice);
     }
 
     /** Method Name: levelUp
      * @Author Abhay Manoj
      * @Date October 3, 2023
-     * @Modified October 3, 2023
-     * @Description Levels up the character while applying hit point increases as per their class
+     * @Modified October 17, 2026
+     * @Description Levels up the character while applying hit point increases as per their class, rolled with the generator of the calling thread
      * @Parameters numberOfLevels - the number of levels that the character has increased since last updating
      * @Returns N/A, Data Type: Void
-     * Dependencies: N/A
+     * Dependencies: Dice
      * Throws/Exceptions: N/A
      */
 
     public void levelUp(int numberOfLevels) {
-        int newHitPoints = 0; // the amount of new hit points that will be generated due to the level increase
-        for (int i = 0; i < numberOfLevels; i++) newHitPoints += calculateIncreaseOfHitPoints();
+        levelUp(numberOfLevels, Dice.current());
+    }
+
+    /** Method Name: levelUp
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Levels up the character while applying hit point increases as per their class, rolled with the given generator. Nothing changes if the level or hit points would go past the highest value of a stat
+     * @Parameters numberOfLevels - the number of levels that the character has increased since last updating, dice - the generator the hit dice are rolled with
+     * @Returns N/A, Data Type: Void
+     * Dependencies: RandomGenerator
+     * Throws/Exceptions: IllegalArgumentException
+     */
+
+    public void levelUp(int numberOfLevels, RandomGenerator dice) {
+        checkStat(Stat.LEVEL, (long) level + numberOfLevels);
+        int newHitPoints = calculateIncreaseOfHitPoints(numberOfLevels, dice); // the amount of new hit points that will be generated due to the level increase
+        checkStat(Stat.HIT_POINTS, (long) hitPoints + newHitPoints);
         level += numberOfLevels;
         hitPoints += newHitPoints;
     }
@@ -168,15 +189,15 @@ public class Character {
     /** Method Name: changeClass
      * @Author Abhay Manoj
      * @Date October 3, 2023
-     * @Modified October 3, 2023
+     * @Modified October 17, 2026
      * @Description Changes the class of a character, adjusts their hit points accordingly
      * @Parameters newClass - the class the user wants to convert their character to
      * @Returns N/A, Data Type: Void
-     * Dependencies: N/A
+     * Dependencies: CharacterClass
      * Throws/Exceptions: N/A
      */
 
-    public void changeClass(String newClass) {
+    public void changeClass(CharacterClass newClass) {
         int characterLevel = level; // saving the level of the character
         classOfCharacter = newClass;
         hitPoints = 0;
@@ -184,167 +205,215 @@ public class Character {
         levelUp(characterLevel);
     }
 
-    /** Method Name: convertToHuman
+    /** Method Name: changeRace
      * @Author Abhay Manoj
      * @Date October 3, 2023
-     * @Modified October 3, 2023
-     * @Description Converts character to a human, with the necessary stat changes
-     * @Parameters N/A
+     * @Modified October 17, 2026
+     * @Description Converts character to a different race, adding the difference between the modifiers of the two races to each ability. A character without a known race is treated as a human
+     * @Parameters newRace - the race the user wants to convert their character to
      * @Returns N/A, Data Type: Void
-     * Dependencies: N/A
+     * Dependencies: Race
      * Throws/Exceptions: N/A
      */
 
-    private void convertToHuman() {
-        final String NEW_RACE = "Human"; // the race that the character will be changed to
-        switch (race) {
-            case "Halfling" -> {
-                dexterity -= 2;
-                constitution--;
-            } case "Elf" -> {
-                dexterity -= 3;
-                constitution += 2;
-            } case "Dwarf" -> constitution -= 3;
-            case "Orc" -> {
-                strength -= 3;
-                constitution--;
-            } case "Gnome" -> {
-                intelligence -= 2;
-                wisdom--;
-                strength += 3;
-            } default -> {}
-        } race = NEW_RACE;
+    public void changeRace(Race newRace) {
+        (race == null ? Race.HUMAN : race).applyChange(newRace, abilities);
+        race = newRace;
     }
 
-    /** Method Name: changeRace
+    /**
+     * Method Name: createTombstone
      * @Author Abhay Manoj
-     * @Date October 3, 2023
-     * @Modified October 3, 2023
-     * @Description Converts character to a different race, with necessary stat changes
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Creates an empty character whose record marks a slot as deleted
      * @Parameters N/A
-     * @Returns N/A, Data Type: Void
+     * @Returns The tombstone character, Data Type: Character
      * Dependencies: N/A
      * Throws/Exceptions: N/A
      */
 
-    public void changeRace(String newRace) {
-        convertToHuman();
-        switch (newRace) {
-            case "Halfling" -> {
-                dexterity += 2;
-                constitution++;
-            } case "Elf" -> {
-                dexterity += 3;
-                constitution -= 2;
-            } case "Dwarf" -> constitution += 3;
-            case "Orc" -> {
-                strength += 3;
-                constitution++;
-            } case "Gnome" -> {
-                intelligence += 2;
-                wisdom++;
-                strength -= 3;
-            } default -> {}
-        } race = newRace;
+    public static Character createTombstone() {
+        Character tombstone = new Character(); // an empty character that marks the slot as deleted
+        tombstone.name = "";
+        tombstone.level = TOMBSTONE_LEVEL;
+        return tombstone;
     }
 
     /**
      * Method Name: writeString
      * @Author Abhay Manoj
-     * @Date October 4, 2023
-     * @Modified October 4, 2023
-     * @Description Writes a string to a binary file
-     * @Parameters randomAccessor - binary file accessor, string - string to be written
-     * @Returns N/A, Data Type: Void
-     * Dependencies: RandomAccessFile
-     * Throws/Exceptions: IOException
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Puts a string into a buffer in the same padded layout that is used in the binary file
+     * @Parameters buffer - the buffer being written to, position - where the string starts in the buffer, string - string to be written
+     * @Returns The position right after the string, Data Type: Integer
+     * Dependencies: ByteBuffer
+     * Throws/Exceptions: N/A
      */
 
-    private void writeString(RandomAccessFile randomAccessor, String string) throws IOException {
-        int stringLength = string.length(); // the length of the string
-        if (stringLength > MAX_STRING_LENGTH) stringLength = MAX_STRING_LENGTH;
-        int padLength = MAX_STRING_LENGTH - stringLength; // the amount of characters that is needed to pad the name to 20 total characters
-        for (int i = 0; i < stringLength; i++) randomAccessor.writeChar(string.charAt(i));
-        if (padLength > 0) for (int i = 0; i < padLength; i++) randomAccessor.writeChar(' ');
+    private static int writeString(ByteBuffer buffer, int position, String string) {
+        int stringLength = Math.min(string.length(), MAX_STRING_LENGTH); // the number of characters of the string that fit in the record
+        for (int i = 0; i < MAX_STRING_LENGTH; i++, position += Short.BYTES) buffer.putChar(position, i < stringLength ? string.charAt(i) : ' ');
+        return position;
     }
 
     /**
      * Method Name: writeRecord
      * @Author Abhay Manoj
-     * @Date October 4, 2023
-     * @Modified October 4, 2023
-     * @Description Prints values of record to a binary file
-     * @Parameters randomAccessor - binary file accessor, numberOfRecord - the number of the record
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Puts the values of the character into a buffer using the layout of a binary file record
+     * @Parameters buffer - the buffer being written to, offset - where the record starts in the buffer
      * @Returns N/A, Data Type: Void
-     * Dependencies: RandomAccessFile
-     * Throws/Exceptions: IOException
+     * Dependencies: ByteBuffer
+     * Throws/Exceptions: N/A
      */
 
-    public void writeRecord(RandomAccessFile randomAccessor, int numberOfRecord) throws IOException {
-        randomAccessor.seek(numberOfRecord * RECORD_LENGTH);
-        writeString(randomAccessor, name);
-        writeString(randomAccessor, race);
-        writeString(randomAccessor, classOfCharacter);
-        randomAccessor.writeInt(level);
-        randomAccessor.writeInt(hitPoints);
-        randomAccessor.writeInt(strength);
-        randomAccessor.writeInt(constitution);
-        randomAccessor.writeInt(intelligence);
-        randomAccessor.writeInt(wisdom);
-        randomAccessor.writeInt(dexterity);
-        randomAccessor.writeInt(charisma);
+    public void writeRecord(ByteBuffer buffer, int offset) {
+        int position = writeString(buffer, offset, name); // where the next value goes in the buffer
+        position = writeString(buffer, position, race == null ? "" : race.toString());
+        position = writeString(buffer, position, classOfCharacter == null ? "" : classOfCharacter.toString());
+        buffer.putInt(position, level);
+        buffer.putInt(position + 4, hitPoints);
+        for (int i = 0; i < NUMBER_OF_ABILITIES; i++) buffer.putInt(position + 8 + i * Integer.BYTES, abilities[i]);
     }
 
     /**
      * Method Name: readString
      * @Author Abhay Manoj
-     * @Date October 4, 2023
-     * @Modified October 4, 2023
-     * @Description Reads a string from a binary file
-     * @Parameters randomAccessor - binary file accessor
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets a padded string out of a buffer holding binary file records
+     * @Parameters buffer - the buffer being read, position - where the string starts in the buffer
      * @Returns The string that was read, Data Type: String
-     * Dependencies: RandomAccessFile
-     * Throws/Exceptions: IOException
+     * Dependencies: ByteBuffer
+     * Throws/Exceptions: N/A
      */
 
-    private String readString(RandomAccessFile randomAccessor) throws IOException {
-        StringBuilder currentString = new StringBuilder(); // used to put characters together, better performance than using string
-        for (int i = 0; i < MAX_STRING_LENGTH; i++) currentString.append(randomAccessor.readChar());
-        return currentString.toString().trim();
+    private static String readString(ByteBuffer buffer, int position) {
+        char[] characters = new char[MAX_STRING_LENGTH]; // the characters of the string, including padding
+        for (int i = 0; i < MAX_STRING_LENGTH; i++, position += Short.BYTES) characters[i] = buffer.getChar(position);
+        return new String(characters).trim();
     }
 
     /**
      * Method Name: readRecord
      * @Author Abhay Manoj
-     * @Date October 4, 2023
-     * @Modified October 4, 2023
-     * @Description Reads values from a record of a binary file and assigns values to variables of character
-     * @Parameters randomAccessor - binary file accessor, numberOfRecord - the number of the record
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets the values of a binary file record out of a buffer and assigns them to variables of character
+     * @Parameters buffer - the buffer being read, offset - where the record starts in the buffer
+     * @Returns N/A, Data Type: Void
+     * Dependencies: ByteBuffer
+     * Throws/Exceptions: N/A
+     */
+
+    public void readRecord(ByteBuffer buffer, int offset) {
+        final int STRING_LENGTH_IN_BYTES = MAX_STRING_LENGTH * Short.BYTES; // the number of bytes a string takes up in a record
+        name = readString(buffer, offset);
+        race = Race.fromName(readString(buffer, offset + STRING_LENGTH_IN_BYTES));
+        classOfCharacter = CharacterClass.fromName(readString(buffer, offset + 2 * STRING_LENGTH_IN_BYTES));
+        int position = offset + 3 * STRING_LENGTH_IN_BYTES; // where the numbers of the record start
+        level = buffer.getInt(position);
+        hitPoints = buffer.getInt(position + 4);
+        for (int i = 0; i < NUMBER_OF_ABILITIES; i++) abilities[i] = buffer.getInt(position + 8 + i * Integer.BYTES);
+    }
+
+    /**
+     * Method Name: writeCompactRecord
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Puts the values of the character into a buffer using the compact record layout: a flag byte, race and class codes, a length prefixed UTF-8 name and the numbers as shorts. A character with an unknown race or class or a number outside the range of a short, which only a legacy record can hold, is refused rather than changed
+     * @Parameters buffer - the buffer being written to, offset - where the record starts in the buffer
+     * @Returns N/A, Data Type: Void
+     * Dependencies: ByteBuffer, StandardCharsets
+     * Throws/Exceptions: IllegalArgumentException
+     */
+
+    public void writeCompactRecord(ByteBuffer buffer, int offset) {
+        final int NAME_OFFSET = 4; // where the name starts in the record
+        final int NUMBERS_OFFSET = NAME_OFFSET + MAX_NAME_BYTES; // where the numbers start in the record
+        if (!isTombstone()) {
+            if (race == null || classOfCharacter == null) throw new IllegalArgumentException(name + " can not be saved in the compact format, their " + (race == null ? "race" : "class") + " is unknown.");
+            for (Stat stat : STATS) {
+                if (getStat(stat) < MIN_STAT_VALUE || getStat(stat) > MAX_STAT_VALUE) throw new IllegalArgumentException(name + " can not be saved in the compact format, their " + stat + " of " + getStat(stat) + " is out of range.");
+            }
+        } for (int i = 0; i < COMPACT_RECORD_LENGTH; i++) buffer.put(offset + i, (byte) 0);
+        if (isTombstone()) {
+            buffer.put(offset, (byte) 1);
+            return;
+        } byte[] nameBytes = encodeName(name); // the name of the character in UTF-8
+        buffer.put(offset + 1, (byte) race.getCode());
+        buffer.put(offset + 2, (byte) classOfCharacter.getCode());
+        buffer.put(offset + 3, (byte) nameBytes.length);
+        buffer.put(offset + NAME_OFFSET, nameBytes);
+        buffer.putShort(offset + NUMBERS_OFFSET, (short) level);
+        buffer.putShort(offset + NUMBERS_OFFSET + 2, (short) hitPoints);
+        for (int i = 0; i < NUMBER_OF_ABILITIES; i++) buffer.putShort(offset + NUMBERS_OFFSET + 4 + i * Short.BYTES, (short) abilities[i]);
+    }
+
+    /**
+     * Method Name: encodeName
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Converts a name to UTF-8, cutting it to 20 characters and then to whole characters that fit in the name field of a compact record
+     * @Parameters name - the name being converted
+     * @Returns The bytes of the name, Data Type: Byte[]
+     * Dependencies: StandardCharsets
+     * Throws/Exceptions: N/A
+     */
+
+    private static byte[] encodeName(String name) {
+        int nameLength = Math.min(name.length(), MAX_STRING_LENGTH); // the number of characters of the name that are kept
+        byte[] nameBytes = name.substring(0, nameLength).getBytes(StandardCharsets.UTF_8); // the name in UTF-8
+        while (nameBytes.length > MAX_NAME_BYTES) {
+            nameLength -= java.lang.Character.isLowSurrogate(name.charAt(nameLength - 1)) ? 2 : 1;
+            nameBytes = name.substring(0, nameLength).getBytes(StandardCharsets.UTF_8);
+        } return nameBytes;
+    }
+
+    /**
+     * Method Name: readCompactRecord
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets the values of a compact record out of a buffer and assigns them to variables of character
+     * @Parameters buffer - the buffer being read, offset - where the record starts in the buffer
      * @Returns N/A, Data Type: Void
-     * Dependencies: RandomAccessFile
-     * Throws/Exceptions: IOException
+     * Dependencies: ByteBuffer, StandardCharsets
+     * Throws/Exceptions: N/A
      */
 
-    public void readRecord(RandomAccessFile randomAccessor, int numberOfRecord) throws IOException {
-        randomAccessor.seek(numberOfRecord * RECORD_LENGTH);
-        name = readString(randomAccessor);
-        race = readString(randomAccessor);
-        classOfCharacter = readString(randomAccessor);
-        level = randomAccessor.readInt();
-        hitPoints = randomAccessor.readInt();
-        strength = randomAccessor.readInt();
-        constitution = randomAccessor.readInt();
-        intelligence = randomAccessor.readInt();
-        wisdom = randomAccessor.readInt();
-        dexterity = randomAccessor.readInt();
-        charisma = randomAccessor.readInt();
+    public void readCompactRecord(ByteBuffer buffer, int offset) {
+        final int NAME_OFFSET = 4; // where the name starts in the record
+        final int NUMBERS_OFFSET = NAME_OFFSET + MAX_NAME_BYTES; // where the numbers start in the record
+        if ((buffer.get(offset) & 1) != 0) {
+            Character tombstone = createTombstone(); // a deleted record is read as a tombstone
+            name = tombstone.name;
+            race = null;
+            classOfCharacter = null;
+            level = tombstone.level;
+            return;
+        } int raceCode = buffer.get(offset + 1); // the index of the race
+        int classCode = buffer.get(offset + 2); // the index of the class
+        byte[] nameBytes = new byte[Math.min(buffer.get(offset + 3) & 0xFF, MAX_NAME_BYTES)]; // the name in UTF-8
+        buffer.get(offset + NAME_OFFSET, nameBytes);
+        name = new String(nameBytes, StandardCharsets.UTF_8);
+        race = Race.fromCode(raceCode);
+        classOfCharacter = CharacterClass.fromCode(classCode);
+        level = buffer.getShort(offset + NUMBERS_OFFSET);
+        hitPoints = buffer.getShort(offset + NUMBERS_OFFSET + 2);
+        for (int i = 0; i < NUMBER_OF_ABILITIES; i++) abilities[i] = buffer.getShort(offset + NUMBERS_OFFSET + 4 + i * Short.BYTES);
     }
 
     /**
      * Method Name: display
      * @Author Abhay Manoj
      * @Date October 4, 2023
-     * @Modified October 4, 2023
+     * @Modified October 17, 2026
      * @Description Displays all attributes of character
      * @Parameters N/A
      * @Returns N/A, Data Type: Void
@@ -353,7 +422,7 @@ public class Character {
      */
 
     public void display() {
-        System.out.printf("Name: %s, Race: %s, Class: %s, Level: %d, HitPoints: %d, Strength: %d, Constitution: %d, Intelligence: %d, Wisdom: %d, Dexterity: %d, Charisma: %d\n", name, race, classOfCharacter, level, hitPoints, strength, constitution, intelligence, wisdom, dexterity, charisma);
+        System.out.printf("Name: %s, Race: %s, Class: %s, Level: %d, HitPoints: %d, Strength: %d, Constitution: %d, Intelligence: %d, Wisdom: %d, Dexterity: %d, Charisma: %d\n", name, race == null ? "Unknown" : race, classOfCharacter == null ? "Unknown" : classOfCharacter, level, hitPoints, abilities[STRENGTH], abilities[CONSTITUTION], abilities[INTELLIGENCE], abilities[WISDOM], abilities[DEXTERITY], abilities[CHARISMA]);
     }
 
 
@@ -366,30 +435,52 @@ public class Character {
         this.name = name;
     }
 
-    public String getRace() {
+    public Race getRace() {
         return race;
     }
 
-    public void setRace(String race) {
-        if (!race.equals("Human") && !race.equals("Elf") && !race.equals("Halfling") && !race.equals("Dwarf") && !race.equals("Orc") && !race.equals("Gnome")) throw new IllegalArgumentException();
+    public void setRace(Race race) {
         this.race = race;
     }
 
-    public String getClassOfCharacter() {
+    public void setRace(String race) {
+        Race parsedRace = Race.fromName(race); // the race with that name
+        if (parsedRace == null) throw new IllegalArgumentException(race + " is not a valid race.");
+        this.race = parsedRace;
+    }
+
+    public void changeRace(String newRace) {
+        Race parsedRace = Race.fromName(newRace); // the race with that name
+        if (parsedRace == null) throw new IllegalArgumentException(newRace + " is not a valid race.");
+        changeRace(parsedRace);
+    }
+
+    public CharacterClass getClassOfCharacter() {
         return classOfCharacter;
     }
 
-    public void setClassOfCharacter(String classOfCharacter) {
-        if (!classOfCharacter.equals("Warrior") && !classOfCharacter.equals("Bard")  && !classOfCharacter.equals("Rogue") && !classOfCharacter.equals("Cleric") && !classOfCharacter.equals("Ranger") && !classOfCharacter.equals("Mage")) throw new IllegalArgumentException();
+    public void setClassOfCharacter(CharacterClass classOfCharacter) {
         this.classOfCharacter = classOfCharacter;
     }
 
+    public void setClassOfCharacter(String classOfCharacter) {
+        CharacterClass parsedClass = CharacterClass.fromName(classOfCharacter); // the class with that name
+        if (parsedClass == null) throw new IllegalArgumentException(classOfCharacter + " is not a valid class.");
+        this.classOfCharacter = parsedClass;
+    }
+
+    public void changeClass(String newClass) {
+        CharacterClass parsedClass = CharacterClass.fromName(newClass); // the class with that name
+        if (parsedClass == null) throw new IllegalArgumentException(newClass + " is not a valid class.");
+        changeClass(parsedClass);
+    }
+
     public int getLevel() {
         return level;
     }
 
     public void setLevel(int level) {
-        this.level = level;
+        this.level = checkStat(Stat.LEVEL, level);
     }
 
     public int getHitPoints() {
@@ -397,58 +488,167 @@ public class Character {
     }
 
     public void setHitPoints(int hitPoints) {
-        this.hitPoints = hitPoints;
+        this.hitPoints = checkStat(Stat.HIT_POINTS, hitPoints);
     }
 
     public int getStrength() {
-        return strength;
+        return abilities[STRENGTH];
     }
 
     public void setStrength(int strength) {
-        this.strength = strength;
+        abilities[STRENGTH] = checkStat(Stat.STRENGTH, strength);
     }
 
     public int getConstitution() {
-        return constitution;
+        return abilities[CONSTITUTION];
     }
 
     public void setConstitution(int constitution) {
-        this.constitution = constitution;
+        abilities[CONSTITUTION] = checkStat(Stat.CONSTITUTION, constitution);
     }
 
     public int getIntelligence() {
-        return intelligence;
+        return abilities[INTELLIGENCE];
     }
 
     public void setIntelligence(int intelligence) {
-        this.intelligence = intelligence;
+        abilities[INTELLIGENCE] = checkStat(Stat.INTELLIGENCE, intelligence);
     }
 
     public int getWisdom() {
-        return wisdom;
+        return abilities[WISDOM];
     }
 
     public void setWisdom(int wisdom) {
-        this.wisdom = wisdom;
+        abilities[WISDOM] = checkStat(Stat.WISDOM, wisdom);
     }
 
     public int getDexterity() {
-        return dexterity;
+        return abilities[DEXTERITY];
     }
 
     public void setDexterity(int dexterity) {
-        this.dexterity = dexterity;
+        abilities[DEXTERITY] = checkStat(Stat.DEXTERITY, dexterity);
     }
 
     public int getCharisma() {
-        return charisma;
+        return abilities[CHARISMA];
     }
 
     public void setCharisma(int charisma) {
-        this.charisma = charisma;
+        abilities[CHARISMA] = checkStat(Stat.CHARISMA, charisma);
+    }
+
+    /** Method Name: getStat
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets the value of one numeric stat of the character
+     * @Parameters stat - the stat being read
+     * @Returns The value of the stat, Data Type: Integer
+     * Dependencies: Stat
+     * Throws/Exceptions: N/A
+     */
+
+    public int getStat(Stat stat) {
+        return switch (stat) {
+            case LEVEL -> level;
+            case HIT_POINTS -> hitPoints;
+            default -> abilities[stat.getAbilityIndex()];
+        };
+    }
+
+    /** Method Name: setStat
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Sets the value of one numeric stat of the character
+     * @Parameters stat - the stat being changed, value - the new value of the stat
+     * @Returns N/A, Data Type: Void
+     * Dependencies: Stat
+     * Throws/Exceptions: IllegalArgumentException
+     */
+
+    public void setStat(Stat stat, int value) {
+        restoreStat(stat, checkStat(stat, value));
+    }
+
+    /** Method Name: restoreStat
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Sets a stat to a value that was already stored, without checking its range since a legacy record can hold any number
+     * @Parameters stat - the stat being changed, value - the stored value of the stat
+     * @Returns N/A, Data Type: Void
+     * Dependencies: Stat
+     * Throws/Exceptions: N/A
+     */
+
+    void restoreStat(Stat stat, int value) {
+        switch (stat) {
+            case LEVEL -> level = value;
+            case HIT_POINTS -> hitPoints = value;
+            default -> abilities[stat.getAbilityIndex()] = value;
+        }
+    }
+
+    /** Method Name: checkStat
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Checks that a value fits in a stat, which has to hold in the 16 bits a compact record gives it
+     * @Parameters stat - the stat being set, value - the value being checked
+     * @Returns The value, Data Type: Integer
+     * Dependencies: Stat
+     * Throws/Exceptions: IllegalArgumentException
+     */
+
+    private static int checkStat(Stat stat, long value) {
+        if (value < MIN_STAT_VALUE || value > MAX_STAT_VALUE) throw new IllegalArgumentException(stat + " must be between " + MIN_STAT_VALUE + " and " + MAX_STAT_VALUE + ".");
+        return (int) value;
+    }
+
+    public boolean isTombstone() {
+        return level == TOMBSTONE_LEVEL;
+    }
+
+    /**
+     * Method Name: isTombstoneRecord
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Checks if a binary file record in a buffer marks a deleted character, without reading the rest of the record
+     * @Parameters buffer - the buffer being read, offset - where the record starts in the buffer
+     * @Returns Whether the record is a tombstone, Data Type: Boolean
+     * Dependencies: ByteBuffer
+     * Throws/Exceptions: N/A
+     */
+
+    public static boolean isTombstoneRecord(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset + 3 * MAX_STRING_LENGTH * Short.BYTES) == TOMBSTONE_LEVEL;
+    }
+
+    /**
+     * Method Name: isCompactTombstoneRecord
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Checks if a compact record in a buffer marks a deleted character, only the flag byte is read
+     * @Parameters buffer - the buffer being read, offset - where the record starts in the buffer
+     * @Returns Whether the record is a tombstone, Data Type: Boolean
+     * Dependencies: ByteBuffer
+     * Throws/Exceptions: N/A
+     */
+
+    public static boolean isCompactTombstoneRecord(ByteBuffer buffer, int offset) {
+        return (buffer.get(offset) & 1) != 0;
     }
 
     public static long getRecordLength() {
         return RECORD_LENGTH;
     }
+
+    public static int getCompactRecordLength() {
+        return COMPACT_RECORD_LENGTH;
+    }
 }
\ No newline at end of file
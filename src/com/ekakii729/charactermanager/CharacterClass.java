@@ -0,0 +1,58 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: The classes a character can be, each class carries the die rolled for its hit points when the character levels up
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+
+public enum CharacterClass {
+    // the order is the class code stored in compact records, so new classes must be added at the end
+    WARRIOR("Warrior", 10),
+    BARD("Bard", 6),
+    ROGUE("Rogue", 6),
+    CLERIC("Cleric", 8),
+    RANGER("Ranger", 6),
+    MAGE("Mage", 4);
+
+    private final String displayName; // the name of the class in text files and menus
+    private final int hitDie; // the number of sides of the die rolled for hit points on each level
+    private final static CharacterClass[] CLASSES = values(); // every class, indexed by class code
+
+    CharacterClass(String displayName, int hitDie) {
+        this.displayName = displayName;
+        this.hitDie = hitDie;
+    }
+
+    /** Method Name: fromName
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Finds the class with a name, names are case sensitive as they are in text files
+     * @Parameters name - the name of the class
+     * @Returns The class, or null if no class has that name, Data Type: CharacterClass
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    public static CharacterClass fromName(String name) {
+        for (CharacterClass classOfCharacter : CLASSES) if (classOfCharacter.displayName.equals(name)) return classOfCharacter;
+        return null;
+    }
+
+    public static CharacterClass fromCode(int code) {
+        return code >= 0 && code < CLASSES.length ? CLASSES[code] : null;
+    }
+
+    public int getCode() {
+        return ordinal();
+    }
+
+    public int getHitDie() {
+        return hitDie;
+    }
+
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Fills a binary file with generated characters using every core, the races, classes and levels are picked by weight (ex. new CharacterGenerator().raceWeight(Race.ORC, 3).levels(1, 5).namePrefix("Goblin")) and each chunk of records is generated on its own and written straight into its slots
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.random.RandomGenerator;
+
+public class CharacterGenerator {
+
+    private final static Race[] RACES = Race.values(); // every race, indexed by code
+    private final static CharacterClass[] CLASSES = CharacterClass.values(); // every class, indexed by code
+    private final static int RECORDS_PER_TASK = 4096; // the number of records a single task generates before it stops splitting
+    private final static int MAX_NAME_LENGTH = 20; // names longer than this are cut short in the binary file
+    private final int[] raceWeights; // how often each race is picked compared to the others, indexed by code
+    private final int[] classWeights; // how often each class is picked compared to the others, indexed by code
+    private int minLevel; // the lowest level a character is given
+    private int maxLevel; // the highest level a character is given
+    private String namePrefix; // the start of every name, followed by the number of the character
+    private Long seed; // the seed the characters are generated from, null to use the dice of the calling thread
+
+    public CharacterGenerator() {
+        raceWeights = new int[RACES.length];
+        classWeights = new int[CLASSES.length];
+        Arrays.fill(raceWeights, 1);
+        Arrays.fill(classWeights, 1);
+        minLevel = 1;
+        maxLevel = 20;
+        namePrefix = "NPC";
+        seed = null;
+    }
+
+    public CharacterGenerator raceWeight(Race race, int weight) {
+        if (weight < 0) throw new IllegalArgumentException("The weight of " + race + " can not be negative.");
+        raceWeights[race.getCode()] = weight;
+        return this;
+    }
+
+    public CharacterGenerator classWeight(CharacterClass classOfCharacter, int weight) {
+        if (weight < 0) throw new IllegalArgumentException("The weight of " + classOfCharacter + " can not be negative.");
+        classWeights[classOfCharacter.getCode()] = weight;
+        return this;
+    }
+
+    public CharacterGenerator levels(int minLevel, int maxLevel) {
+        if (minLevel < 1 || maxLevel < minLevel) throw new IllegalArgumentException("Levels must go from 1 or more up to at least the lowest level.");
+        this.minLevel = minLevel;
+        this.maxLevel = maxLevel;
+        return this;
+    }
+
+    public CharacterGenerator namePrefix(String namePrefix) {
+        this.namePrefix = namePrefix;
+        return this;
+    }
+
+    public CharacterGenerator seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /** Method Name: option
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Applies an option written as text, races and classes take weights by name (ex. races=Human:3,Elf:1 classes=Mage:2 levels=1-5 prefix=Goblin seed=42). Races and classes that are not listed in a weights option are never picked
+     * @Parameters option - the option, written as name=value
+     * @Returns The generator, Data Type: CharacterGenerator
+     * Dependencies: Race, CharacterClass
+     * Throws/Exceptions: IllegalArgumentException
+     */
+
+    public CharacterGenerator option(String option) {
+        int equals = option.indexOf('='); // where the name of the option ends
+        if (equals < 0) throw new IllegalArgumentException(option + " is not an option, options are written as name=value.");
+        String value = option.substring(equals + 1); // the value of the option
+        switch (option.substring(0, equals)) {
+            case "races" -> {
+                Arrays.fill(raceWeights, 0);
+                for (String weight : value.split(",")) {
+                    String name = weight.split(":")[0]; // the name of the race
+                    Race race = Race.fromName(name); // the race being weighted
+                    if (race == null) throw new IllegalArgumentException(name + " is not a valid race.");
+                    raceWeight(race, parseWeight(weight));
+                }
+            } case "classes" -> {
+                Arrays.fill(classWeights, 0);
+                for (String weight : value.split(",")) {
+                    String name = weight.split(":")[0]; // the name of the class
+                    CharacterClass classOfCharacter = CharacterClass.fromName(name); // the class being weighted
+                    if (classOfCharacter == null) throw new IllegalArgumentException(name + " is not a valid class.");
+                    classWeight(classOfCharacter, parseWeight(weight));
+                }
+            } case "levels" -> {
+                String[] range = value.split("-"); // the lowest and highest level
+                levels(Integer.parseInt(range[0]), Integer.parseInt(range[range.length - 1]));
+            } case "prefix" -> namePrefix(value);
+            case "seed" -> seed(Long.parseLong(value));
+            default -> throw new IllegalArgumentException(option.substring(0, equals) + " is not an option, use races, classes, levels, prefix or seed.");
+        } return this;
+    }
+
+    private static int parseWeight(String weight) {
+        int colon = weight.indexOf(':'); // where the name ends and the weight starts
+        return colon < 0 ? 1 : Integer.parseInt(weight.substring(colon + 1));
+    }
+
+    /** Method Name: pick
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Picks an index at random, each index is as likely as its share of the total weight
+     * @Parameters totals - the running totals of the weights, dice - the generator the pick is made with
+     * @Returns The index that was picked, Data Type: Integer
+     * Dependencies: RandomGenerator
+     * Throws/Exceptions: N/A
+     */
+
+    private static int pick(int[] totals, RandomGenerator dice) {
+        int roll = dice.nextInt(totals[totals.length - 1]); // falls within the share of the picked index
+        int index = 0; // the index being checked
+        while (roll >= totals[index]) index++;
+        return index;
+    }
+
+    private static int[] runningTotals(int[] weights, String kind) {
+        int[] totals = new int[weights.length]; // the total of each weight and the ones before it
+        int total = 0; // the total of the weights so far
+        for (int i = 0; i < weights.length; i++) totals[i] = total = Math.addExact(total, weights[i]);
+        if (total == 0) throw new IllegalArgumentException("At least one " + kind + " needs a weight above 0.");
+        return totals;
+    }
+
+    /** Method Name: generateFile
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Replaces a binary file with generated characters in the default format, chunks of characters are generated in parallel and each chunk rolls its own stream split off before any work starts, so a seeded run gives the same file however it is scheduled. The binary file is only replaced, in one atomic rename, once every chunk has been written to disk
+     * @Parameters binaryFileName - the name of the binary file, numberOfCharacters - the number of characters to generate, pool - the pool the chunks are generated on
+     * @Returns N/A, Data Type: Void
+     * Dependencies: FileChannel, ForkJoinPool, SplittableRandom, Dice
+     * Throws/Exceptions: IOException, IllegalArgumentException
+     */
+
+    public void generateFile(String binaryFileName, int numberOfCharacters, ForkJoinPool pool) throws IOException {
+        if (numberOfCharacters < 0) throw new IllegalArgumentException("The number of characters can not be negative.");
+        if (namePrefix.length() + 1 + String.valueOf(numberOfCharacters).length() > MAX_NAME_LENGTH) throw new IllegalArgumentException("The name prefix " + namePrefix + " is too long to number " + numberOfCharacters + " characters in " + MAX_NAME_LENGTH + " letters.");
+        int[] raceTotals = runningTotals(raceWeights, "race"); // the running totals of the race weights
+        int[] classTotals = runningTotals(classWeights, "class"); // the running totals of the class weights
+        RandomGenerator.SplittableGenerator root = seed == null ? new SplittableRandom(Dice.split().nextLong()) : new SplittableRandom(seed); // every chunk's stream is split from this
+        RandomGenerator[] streams = new RandomGenerator[(numberOfCharacters + RECORDS_PER_TASK - 1) / RECORDS_PER_TASK]; // the stream of each chunk
+        for (int i = 0; i < streams.length; i++) streams[i] = root.split();
+        Path binaryFile = Paths.get(binaryFileName).toAbsolutePath(); // the binary file being replaced
+        Path generateFile = binaryFile.resolveSibling(binaryFile.getFileName() + ".generate"); // the file records are written to until every chunk is done
+        try (FileChannel binaryChannel = FileChannel.open(generateFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) { // writes the new binary file
+            RecordFormat format = RecordFormat.getDefault(); // the layout the records are saved in
+            if (streams.length > 0) pool.invoke(new GenerateTask(binaryChannel, format, raceTotals, classTotals, minLevel, maxLevel, namePrefix, streams, numberOfCharacters, 0, streams.length));
+            format.writeHeader(binaryChannel, numberOfCharacters);
+            binaryChannel.force(true);
+        } catch (UncheckedIOException e) {
+            Files.deleteIfExists(generateFile);
+            throw e.getCause();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(generateFile);
+            throw e;
+        } Files.move(generateFile, binaryFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @SuppressWarnings("serial") // a task is only ever run in the pool, never serialized
+    private static class GenerateTask extends RecursiveAction {
+
+        private final FileChannel binaryChannel; // writes the new binary file
+        private final RecordFormat format; // the layout the records are saved in
+        private final int[] raceTotals; // the running totals of the race weights
+        private final int[] classTotals; // the running totals of the class weights
+        private final int minLevel; // the lowest level a character is given
+        private final int maxLevel; // the highest level a character is given
+        private final String namePrefix; // the start of every name, followed by the number of the character
+        private final RandomGenerator[] streams; // the stream of each chunk
+        private final int numberOfCharacters; // the number of characters in the whole file
+        private final int firstChunk; // the first chunk this task generates
+        private final int endChunk; // the chunk after the last one this task generates
+
+        private GenerateTask(FileChannel binaryChannel, RecordFormat format, int[] raceTotals, int[] classTotals, int minLevel, int maxLevel, String namePrefix, RandomGenerator[] streams, int numberOfCharacters, int firstChunk, int endChunk) {
+            this.binaryChannel = binaryChannel;
+            this.format = format;
+            this.raceTotals = raceTotals;
+            this.classTotals = classTotals;
+            this.minLevel = minLevel;
+            this.maxLevel = maxLevel;
+            this.namePrefix = namePrefix;
+            this.streams = streams;
+            this.numberOfCharacters = numberOfCharacters;
+            this.firstChunk = firstChunk;
+            this.endChunk = endChunk;
+        }
+
+        /** Method Name: compute
+         * @Author Abhay Manoj
+         * @Date October 17, 2026
+         * @Modified October 17, 2026
+         * @Description Splits the chunks in half until one is left, then generates its characters with the stream of the chunk and writes them to their slots in the binary file
+         * @Parameters N/A
+         * @Returns N/A, Data Type: Void
+         * Dependencies: Character, FileChannel
+         * Throws/Exceptions: UncheckedIOException
+         */
+
+        protected void compute() {
+            if (endChunk - firstChunk > 1) {
+                int middleChunk = (firstChunk + endChunk) >>> 1; // where the chunks are split
+                invokeAll(new GenerateTask(binaryChannel, format, raceTotals, classTotals, minLevel, maxLevel, namePrefix, streams, numberOfCharacters, firstChunk, middleChunk),
+                        new GenerateTask(binaryChannel, format, raceTotals, classTotals, minLevel, maxLevel, namePrefix, streams, numberOfCharacters, middleChunk, endChunk));
+                return;
+            } int firstRecord = firstChunk * RECORDS_PER_TASK; // the first record of the chunk
+            int chunkRecords = Math.min(RECORDS_PER_TASK, numberOfCharacters - firstRecord); // the number of records in the chunk
+            RandomGenerator dice = streams[firstChunk]; // the stream of the chunk
+            ByteBuffer records = ByteBuffer.allocate(chunkRecords * format.getRecordLength()); // the encoded records of this chunk
+            Character character = new Character(); // reused for every character in the chunk
+            for (int i = 0; i < chunkRecords; i++) {
+                character.setName(namePrefix + " " + (firstRecord + i + 1));
+                character.setRace(RACES[pick(raceTotals, dice)]);
+                character.setClassOfCharacter(CLASSES[pick(classTotals, dice)]);
+                character.generateStats(dice);
+                character.setLevel(1);
+                character.levelUp(minLevel - 1 + dice.nextInt(maxLevel - minLevel + 1), dice);
+                format.writeRecord(character, records, i * format.getRecordLength());
+            } try {
+                while (records.hasRemaining()) binaryChannel.write(records, format.getOffset(firstRecord) + records.position());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
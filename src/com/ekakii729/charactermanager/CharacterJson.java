@@ -0,0 +1,206 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Turns characters into JSON and reads the flat JSON objects sent to the character server, only the small part of JSON the server needs is supported
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class CharacterJson {
+
+    private final static Stat[] STATS = Stat.values(); // every stat, in the order they are written
+    private final static String[] STAT_KEYS = new String[STATS.length]; // the JSON key of each stat, indexed by ordinal
+
+    static {
+        for (Stat stat : STATS) STAT_KEYS[stat.ordinal()] = java.lang.Character.toLowerCase(stat.toString().charAt(0)) + stat.toString().substring(1);
+    }
+
+    private CharacterJson() {
+    }
+
+    /** Method Name: toJson
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Writes a character as a JSON object (ex. {"name":"Malloc Dragonslayer","race":"Human","class":"Warrior","level":5,...})
+     * @Parameters character - the character being written, json - where the object is appended
+     * @Returns The builder, Data Type: StringBuilder
+     * Dependencies: Stat
+     * Throws/Exceptions: N/A
+     */
+
+    public static StringBuilder toJson(Character character, StringBuilder json) {
+        json.append("{\"name\":");
+        appendString(character.getName(), json);
+        json.append(",\"race\":");
+        appendString(character.getRace() == null ? null : character.getRace().toString(), json);
+        json.append(",\"class\":");
+        appendString(character.getClassOfCharacter() == null ? null : character.getClassOfCharacter().toString(), json);
+        for (Stat stat : STATS) json.append(",\"").append(STAT_KEYS[stat.ordinal()]).append("\":").append(character.getStat(stat));
+        return json.append('}');
+    }
+
+    public static String toJson(Character character) {
+        return toJson(character, new StringBuilder()).toString();
+    }
+
+    /** Method Name: toJson
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Writes characters as a JSON array of objects
+     * @Parameters characters - the characters being written
+     * @Returns The JSON array, Data Type: String
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    public static String toJson(Character[] characters) {
+        StringBuilder json = new StringBuilder(characters.length * 160 + 2).append('['); // the array being built, about 160 bytes a character
+        for (int i = 0; i < characters.length; i++) {
+            if (i > 0) json.append(',');
+            toJson(characters[i], json);
+        } return json.append(']').toString();
+    }
+
+    /** Method Name: appendString
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Writes a string as a JSON string, escaping quotes, backslashes and control characters
+     * @Parameters text - the string, or null, json - where the string is appended
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    public static void appendString(String text, StringBuilder json) {
+        if (text == null) {
+            json.append("null");
+            return;
+        } json.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i); // the character being written
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) json.append(String.format("\\u%04x", (int) c));
+                    else json.append(c);
+                }
+            }
+        } json.append('"');
+    }
+
+    /** Method Name: parseObject
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Reads a flat JSON object whose values are strings, numbers, booleans or null, every value is given back as text (null stays null)
+     * @Parameters text - the JSON object
+     * @Returns The values by key, in the order they were written, Data Type: Map<String, String>
+     * Dependencies: LinkedHashMap
+     * Throws/Exceptions: IllegalArgumentException
+     */
+
+    public static Map<String, String> parseObject(String text) {
+        Map<String, String> values = new LinkedHashMap<>(); // the values read so far
+        int[] position = {skipWhitespace(text, 0)}; // where the parser is in the text
+        expect(text, position, '{');
+        if (peek(text, position) == '}') position[0]++;
+        else {
+            do {
+                String key = readString(text, position); // the key of the value being read
+                expect(text, position, ':');
+                values.put(key, readValue(text, position));
+            } while (tryConsume(text, position, ','));
+            expect(text, position, '}');
+        } if (skipWhitespace(text, position[0]) != text.length()) throw new IllegalArgumentException("Unexpected text after the JSON object.");
+        return values;
+    }
+
+    /** Method Name: readValue
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Reads a string, number, boolean or null, nested objects and arrays are not supported
+     * @Parameters text - the JSON text, position - where the value starts, moved past it
+     * @Returns The value as text, or null for a JSON null, Data Type: String
+     * Dependencies: N/A
+     * Throws/Exceptions: IllegalArgumentException
+     */
+
+    private static String readValue(String text, int[] position) {
+        char first = peek(text, position); // the first character of the value
+        if (first == '"') return readString(text, position);
+        if (first == '{' || first == '[') throw new IllegalArgumentException("Nested JSON values are not supported.");
+        int start = position[0]; // where the value starts
+        while (position[0] < text.length() && ",}] \t\r\n".indexOf(text.charAt(position[0])) < 0) position[0]++;
+        String value = text.substring(start, position[0]); // the text of the value
+        if (value.isEmpty()) throw new IllegalArgumentException("A JSON value is missing at " + start + ".");
+        return value.equals("null") ? null : value;
+    }
+
+    /** Method Name: readString
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Reads a JSON string and resolves its escapes
+     * @Parameters text - the JSON text, position - where the string starts, moved past it
+     * @Returns The string, Data Type: String
+     * Dependencies: N/A
+     * Throws/Exceptions: IllegalArgumentException
+     */
+
+    private static String readString(String text, int[] position) {
+        expect(text, position, '"');
+        StringBuilder value = new StringBuilder(); // the string being read
+        while (position[0] < text.length()) {
+            char c = text.charAt(position[0]++); // the character being read
+            if (c == '"') return value.toString();
+            if (c != '\\') value.append(c);
+            else if (position[0] < text.length()) {
+                char escaped = text.charAt(position[0]++); // the character after the backslash
+                switch (escaped) {
+                    case 'n' -> value.append('\n');
+                    case 'r' -> value.append('\r');
+                    case 't' -> value.append('\t');
+                    case 'b' -> value.append('\b');
+                    case 'f' -> value.append('\f');
+                    case 'u' -> {
+                        if (position[0] + 4 > text.length()) throw new IllegalArgumentException("A unicode escape was cut off.");
+                        value.append((char) Integer.parseInt(text.substring(position[0], position[0] + 4), 16));
+                        position[0] += 4;
+                    } default -> value.append(escaped);
+                }
+            }
+        } throw new IllegalArgumentException("A JSON string was not closed.");
+    }
+
+    private static int skipWhitespace(String text, int position) {
+        while (position < text.length() && java.lang.Character.isWhitespace(text.charAt(position))) position++;
+        return position;
+    }
+
+    private static char peek(String text, int[] position) {
+        position[0] = skipWhitespace(text, position[0]);
+        if (position[0] >= text.length()) throw new IllegalArgumentException("The JSON object was cut off.");
+        return text.charAt(position[0]);
+    }
+
+    private static void expect(String text, int[] position, char expected) {
+        if (peek(text, position) != expected) throw new IllegalArgumentException("Expected " + expected + " at " + position[0] + " of the JSON object.");
+        position[0]++;
+    }
+
+    private static boolean tryConsume(String text, int[] position, char expected) {
+        if (peek(text, position) != expected) return false;
+        position[0]++;
+        return true;
+    }
+}
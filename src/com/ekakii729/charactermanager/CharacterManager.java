@@ -6,27 +6,37 @@
 
 package com.ekakii729.charactermanager;
 import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
 
 public class CharacterManager {
 
+    private final static int DEFAULT_PORT = 8080; // the port the server listens on unless another is given
+    private final static String CHARACTERS_URL_PATH = "/characters"; // the path the server shows the characters at
+
     /** Method Name: getBinaryNumOfRecords
      * @Author Abhay Manoj
      * @Date October 7, 2023
-     * @Modified October 7, 2023
-     * @Description Gets the number of records within a binary file
+     * @Modified October 17, 2026
+     * @Description Gets the number of records within a binary file, whichever record format it is in
      * @Parameters fileName - the name of the file being accessed
      * @Returns The number of records, Data Type: Integer
-     * Dependencies: RandomAccessFile
+     * Dependencies: RandomAccessFile, RecordFormat
      * Throws/Exceptions: FileNotFoundException, IOException
      */
 
     private static int getBinaryNumOfRecords(String fileName) {
         try {
             RandomAccessFile randomAccessor = new RandomAccessFile(fileName, "rw"); // accesses binary file
-            long fileSize = randomAccessor.length(); // size of the binary file in bytes
+            RecordFormat format = RecordFormat.detect(randomAccessor.getChannel()); // the layout of the records in the file
+            int numberOfRecords = format == null ? 0 : format.countRecords(randomAccessor.getChannel()); // the number of records in the file
             randomAccessor.close();
-            return (int) (fileSize / Character.getRecordLength());
+            return numberOfRecords;
         } catch (FileNotFoundException e) {
             System.out.println("\nFILE NOT FOUND ERROR, CHECK WHERE FILE WAS PLACED --> " + e);
         } catch (IOException e) {
@@ -34,37 +44,10 @@ public class CharacterManager {
         } return -1;
     }
 
-    /** Method Name: getTextNumOfRecords
-     * @Author Abhay Manoj
-     * @Date October 7, 2023
-     * @Modified October 7, 2023
-     * @Description Gets the number of records within a text file
-     * @Parameters fileName - the name of the file being accessed
-     * @Returns The number of records, Data Type: Integer
-     * Dependencies: BufferedReader, FileReader
-     * Throws/Exceptions: FileNotFoundException, IOException
-     */
-
-    private static int getTextNumOfRecords(String fileName) {
-        int numberOfRecords = 0; // number of records within the file
-        final int NUMBER_OF_LINES_IN_RECORD = 11; // 11 lines in 1 record
-        try {
-            BufferedReader recordPointer = new BufferedReader(new FileReader(fileName)); // accesses text file
-            while (recordPointer.ready()) {
-                recordPointer.readLine();
-                numberOfRecords++;
-            } recordPointer.close();
-        } catch (FileNotFoundException e) {
-            System.out.println("\nFILE NOT FOUND ERROR, CHECK WHERE FILE WAS PLACED --> " + e);
-        } catch (IOException e) {
-            System.out.println("\nI/O ERROR --> " + e);
-        } return numberOfRecords / NUMBER_OF_LINES_IN_RECORD;
-    }
-
     /** Method Name: initialReadOfFile
      * @Author Abhay Manoj
      * @Date October 7, 2023
-     * @Modified October 10, 2023
+     * @Modified October 17, 2026
      * @Description Creates CharacterUtil object with number of records from file
      * @Parameters input - used to take user input
      * @Returns CharacterUtils object for accessing character array, Data Type: CharacterUtils
@@ -85,7 +68,7 @@ public class CharacterManager {
         System.out.print("\nEnter EXACT name of file (ex. characterStats.txt, myCharacters.bin): ");
         String fileName = input.nextLine(); //  the name of the file
         if (userChoice == TEXT_FILE_CHOICE) {
-            myHelper = new CharacterUtils(getTextNumOfRecords(fileName));
+            myHelper = new CharacterUtils(0);
             myHelper.userTextFileChoiceToArray(fileName);
             System.out.println("\nA new file named \"myCharacters.bin\" has been created. Use this file to read in data from now on.");
         } else {
@@ -97,8 +80,8 @@ public class CharacterManager {
     /** Method Name: menuLoop
      * @Author Abhay Manoj
      * @Date October 7, 2023
-     * @Modified October 10, 2023
-     * @Description Runs the main loop of the program
+     * @Modified October 17, 2026
+     * @Description Runs the main loop of the program, the binary file is closed even when the loop ends with an error
      * @Parameters input - used to take user input
      * @Returns N/A, Data Type: Void
      * Dependencies: Scanner
@@ -108,39 +91,124 @@ public class CharacterManager {
     public static void menuLoop(Scanner input) throws IOException {
         boolean isRunning = true; // checks if the program is running or not
         CharacterUtils myHelper = initialReadOfFile(input); // CharacterUtils object used for accessing the array
-        while (isRunning) {
-            System.out.println("\nSelect an Option:\n1. Read from Text File\n2. Read from Binary File\n3. Write to Binary File\n4. Print All Characters\n5. Add New Character\n6. Delete Character\n7. Change Race of Character\n8. Change Class of Character\n9. Update Level of Character\n10. Update Character Stats\n11. Search by Character Name\n12. Quit");
-            switch (Integer.parseInt(input.nextLine())) {
-                case 1 -> {
-                    System.out.print("\nEnter EXACT name of file (ex. characterStats.txt, myCharacters.bin): ");
-                    myHelper.userTextFileChoiceToArray(input.nextLine());
-                    System.out.println("\nA new file named \"myCharacters.bin\" has been created. Use this file to read in data from now on.");
-                } case 2 -> {
-                    System.out.print("\nEnter EXACT name of file (ex. characterStats.txt, myCharacters.bin): ");
-                    myHelper.userBinaryFileChoiceToArray(input.nextLine());
-                } case 3 -> myHelper.userWriteToFile(input);
-                case 4 -> myHelper.printAllCharacters();
-                case 5 -> myHelper.addNewCharacter(input);
-                case 6 -> myHelper.deleteCharacterFromList(input);
-                case 7 -> myHelper.changeRace(input);
-                case 8 -> myHelper.changeClass(input);
-                case 9 -> myHelper.updateLevel(input);
-                case 10 -> myHelper.updateStats(input);
-                case 11 -> myHelper.printCharacter(input);
-                case 12 -> {
-                    System.out.println("\nProgram has been closed.");
-                    isRunning = false;
-                    input.close();
-                } default -> System.out.println("\nThat is not a valid option. Please try again.");
+        myHelper.getMetrics().registerMBean();
+        try {
+            while (isRunning) {
+                System.out.println("\nSelect an Option:\n1. Read from Text File\n2. Read from Binary File\n3. Write to Binary File\n4. Print All Characters\n5. Add New Character\n6. Delete Character\n7. Change Race of Character\n8. Change Class of Character\n9. Update Level of Character\n10. Update Character Stats\n11. Search by Character Name\n12. Quit\n13. Show Stat Summary\n14. Search Characters by Race, Class and Level\n15. Search Characters by Part of Name\n16. Show Operation Statistics");
+                switch (Integer.parseInt(input.nextLine())) {
+                    case 1 -> {
+                        System.out.print("\nEnter EXACT name of file (ex. characterStats.txt, myCharacters.bin): ");
+                        myHelper.userTextFileChoiceToArray(input.nextLine());
+                        System.out.println("\nA new file named \"myCharacters.bin\" has been created. Use this file to read in data from now on.");
+                    } case 2 -> {
+                        System.out.print("\nEnter EXACT name of file (ex. characterStats.txt, myCharacters.bin): ");
+                        myHelper.userBinaryFileChoiceToArray(input.nextLine());
+                    } case 3 -> myHelper.userWriteToFile(input);
+                    case 4 -> myHelper.printAllCharacters();
+                    case 5 -> myHelper.addNewCharacter(input);
+                    case 6 -> myHelper.deleteCharacterFromList(input);
+                    case 7 -> myHelper.changeRace(input);
+                    case 8 -> myHelper.changeClass(input);
+                    case 9 -> myHelper.updateLevel(input);
+                    case 10 -> myHelper.updateStats(input);
+                    case 11 -> myHelper.printCharacter(input);
+                    case 12 -> {
+                        myHelper.close();
+                        System.out.println("\nProgram has been closed.");
+                        isRunning = false;
+                        input.close();
+                    } case 13 -> myHelper.printStatSummary();
+                    case 14 -> myHelper.userQuery(input);
+                    case 15 -> myHelper.userSearchByName(input);
+                    case 16 -> myHelper.printOperationStatistics();
+                    default -> System.out.println("\nThat is not a valid option. Please try again.");
+                } if (isRunning) myHelper.flushIfDue();
             }
+        } finally {
+            if (isRunning) myHelper.close();
         }
     }
 
+    /** Method Name: runBatch
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Runs a script of commands on a binary file without prompting
+     * @Parameters scriptName - the name of the script, or - to read it from standard input, fileName - the name of the binary file
+     * @Returns The number of commands that could not be run, Data Type: Integer
+     * Dependencies: BatchRunner, BufferedReader
+     * Throws/Exceptions: FileNotFoundException, IOException
+     */
+
+    public static int runBatch(String scriptName, String fileName) throws IOException {
+        CharacterUtils myHelper = new CharacterUtils(Math.max(getBinaryNumOfRecords(fileName), 0)); // CharacterUtils object used for accessing the array
+        myHelper.getMetrics().registerMBean();
+        myHelper.userBinaryFileChoiceToArray(fileName);
+        try (BufferedReader reader = new BufferedReader(scriptName.equals("-") ? new InputStreamReader(System.in) : new FileReader(scriptName))) { // reads the script
+            return new BatchRunner(myHelper).run(reader);
+        } catch (FileNotFoundException e) {
+            System.out.println("\nFILE NOT FOUND ERROR, CHECK WHERE FILE WAS PLACED --> " + e);
+            return 1;
+        } finally {
+            myHelper.close();
+        }
+    }
+
+    /** Method Name: serve
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Serves a binary file over HTTP on the loopback address until the program is stopped, the file is closed by a shutdown hook
+     * @Parameters port - the port the server listens on, fileName - the name of the binary file
+     * @Returns N/A, Data Type: Void
+     * Dependencies: CharacterServer, InetSocketAddress
+     * Throws/Exceptions: IOException
+     */
+
+    public static void serve(int port, String fileName) throws IOException {
+        CharacterUtils myHelper = new CharacterUtils(Math.max(getBinaryNumOfRecords(fileName), 0)); // CharacterUtils object shared by every request
+        myHelper.getMetrics().registerMBean();
+        myHelper.userBinaryFileChoiceToArray(fileName);
+        CharacterServer server = new CharacterServer(myHelper, new InetSocketAddress(InetAddress.getLoopbackAddress(), port)); // serves the characters
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop(1);
+            try {
+                myHelper.close();
+            } catch (IOException e) {
+                System.out.println("\nI/O ERROR --> " + e);
+            }
+        }));
+        server.start();
+        System.out.println("Serving " + fileName + " on http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + CHARACTERS_URL_PATH + (server.usesVirtualThreads() ? " with virtual threads." : " with a pool of threads."));
+    }
+
+    /** Method Name: generate
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Fills a binary file with generated characters on every core without loading them, then prints how fast the file was written
+     * @Parameters numberOfCharacters - the number of characters to generate, fileName - the name of the binary file, options - the options of the generator (ex. races=Human:3,Elf:1 levels=1-5 seed=42)
+     * @Returns N/A, Data Type: Void
+     * Dependencies: CharacterGenerator, ForkJoinPool, RecordFormat
+     * Throws/Exceptions: IOException, IllegalArgumentException
+     */
+
+    public static void generate(int numberOfCharacters, String fileName, List<String> options) throws IOException {
+        CharacterGenerator generator = new CharacterGenerator(); // picks the races, classes, levels and names
+        for (String option : options) generator.option(option);
+        Files.deleteIfExists(WriteAheadLog.getLogFile(fileName).toPath());
+        long start = System.nanoTime(); // when the generation started
+        generator.generateFile(fileName, numberOfCharacters, ForkJoinPool.commonPool());
+        double seconds = (System.nanoTime() - start) / 1e9; // how long the generation took
+        double megabytes = RecordFormat.getDefault().getOffset(numberOfCharacters) / (1024.0 * 1024.0); // the size of the generated file
+        System.out.printf("Generated %d character(s) into %s in %.2f s (%.0f characters/s, %.1f MB/s on %d thread(s))\n", numberOfCharacters, fileName, seconds, numberOfCharacters / seconds, megabytes / seconds, ForkJoinPool.getCommonPoolParallelism());
+    }
+
     /** Method Name: main
      * @Author Abhay Manoj
      * @Date October 4, 2023
-     * @Modified October 4, 2023
-     * @Description Driver method of program
+     * @Modified October 17, 2026
+     * @Description Driver method of program, runs the menu, with --batch <script, or - for standard input> [binary file] runs a script of commands with --serve [port] [binary file] serves the characters over HTTP and with --generate <count> [binary file] [option=value ...] fills a binary file with generated characters
      * @Parameters args - arguments that can be passed in
      * @Returns N/A, Data Type: Void
      * Dependencies: Scanner
@@ -148,7 +216,22 @@ public class CharacterManager {
      */
 
     public static void main(String[] args) throws IOException {
-        Scanner input = new Scanner(System.in); // used for user input
+        if (args.length > 0 && args[0].equals("--batch")) {
+            if (args.length < 2) {
+                System.out.println("Usage: CharacterManager --batch <script, or - for standard input> [binary file]");
+                System.exit(2);
+            } System.exit(runBatch(args[1], args.length > 2 ? args[2] : "myCharacters.bin") == 0 ? 0 : 1);
+        } if (args.length > 0 && args[0].equals("--serve")) {
+            serve(args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PORT, args.length > 2 ? args[2] : "myCharacters.bin");
+            return;
+        } if (args.length > 0 && args[0].equals("--generate")) {
+            if (args.length < 2) {
+                System.out.println("Usage: CharacterManager --generate <count> [binary file] [races=Human:3,Elf:1] [classes=Mage:2,Rogue:1] [levels=1-20] [prefix=NPC] [seed=42]");
+                System.exit(2);
+            } boolean hasFileName = args.length > 2 && !args[2].contains("="); // whether the argument after the count is a file name rather than an option
+            generate(Integer.parseInt(args[1]), hasFileName ? args[2] : "myCharacters.bin", Arrays.asList(args).subList(hasFileName ? 3 : 2, args.length));
+            return;
+        } Scanner input = new Scanner(System.in); // used for user input
         menuLoop(input);
     }
 }
\ No newline at end of file
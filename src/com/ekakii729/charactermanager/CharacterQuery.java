@@ -0,0 +1,136 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Describes which characters to find and in what order, conditions are added one call at a time (ex. new CharacterQuery().race(Race.DWARF).atLeast(Stat.LEVEL, 6).sortBy(Stat.CONSTITUTION, true))
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+
+public class CharacterQuery {
+
+    private Race race; // the race a character must be, null for any
+    private CharacterClass classOfCharacter; // the class a character must be, null for any
+    private final int[] minimums; // the lowest value allowed for each stat, indexed by stat
+    private final int[] maximums; // the highest value allowed for each stat, indexed by stat
+    private String nameContains; // text the name of a character must contain, null for any
+    private Stat sortStat; // the stat the results are sorted by, null to keep slot order
+    private boolean isDescending; // whether the results go from the highest value to the lowest
+    private boolean isSortedByName; // whether the results are sorted by name
+    private int limit; // the most results that are returned
+    private final static Stat[] STATS = Stat.values(); // every stat, indexed by ordinal
+
+    public CharacterQuery() {
+        race = null;
+        classOfCharacter = null;
+        minimums = new int[STATS.length];
+        maximums = new int[STATS.length];
+        Arrays.fill(minimums, Integer.MIN_VALUE);
+        Arrays.fill(maximums, Integer.MAX_VALUE);
+        nameContains = null;
+        sortStat = null;
+        isDescending = false;
+        isSortedByName = false;
+        limit = Integer.MAX_VALUE;
+    }
+
+    public CharacterQuery race(Race race) {
+        this.race = race;
+        return this;
+    }
+
+    public CharacterQuery classOfCharacter(CharacterClass classOfCharacter) {
+        this.classOfCharacter = classOfCharacter;
+        return this;
+    }
+
+    public CharacterQuery atLeast(Stat stat, int minimum) {
+        minimums[stat.ordinal()] = minimum;
+        return this;
+    }
+
+    public CharacterQuery atMost(Stat stat, int maximum) {
+        maximums[stat.ordinal()] = maximum;
+        return this;
+    }
+
+    public CharacterQuery nameContains(String nameContains) {
+        this.nameContains = nameContains;
+        return this;
+    }
+
+    public CharacterQuery sortBy(Stat sortStat, boolean isDescending) {
+        this.sortStat = sortStat;
+        this.isDescending = isDescending;
+        isSortedByName = false;
+        return this;
+    }
+
+    public CharacterQuery sortByName() {
+        sortStat = null;
+        isSortedByName = true;
+        return this;
+    }
+
+    public CharacterQuery limit(int limit) {
+        this.limit = Math.max(limit, 0);
+        return this;
+    }
+
+    /** Method Name: matches
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Checks the stat and name conditions against the character in a slot, only reading the stats that have a condition
+     * @Parameters characters - the roster being queried, slot - the slot being checked
+     * @Returns Whether the character passes every condition, Data Type: Boolean
+     * Dependencies: Roster, Stat
+     * Throws/Exceptions: N/A
+     */
+
+    private boolean matches(Roster characters, int slot) {
+        for (Stat stat : STATS) {
+            if (minimums[stat.ordinal()] == Integer.MIN_VALUE && maximums[stat.ordinal()] == Integer.MAX_VALUE) continue;
+            int value = characters.getStat(slot, stat); // the value of the stat of the character
+            if (value < minimums[stat.ordinal()] || value > maximums[stat.ordinal()]) return false;
+        } return nameContains == null || characters.get(slot).getName().contains(nameContains);
+    }
+
+    /** Method Name: execute
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Finds the slots of the characters that match the query. The secondary index narrows down the slots by race, class and level first, so only those are checked. Sorting by a stat sorts packed value and slot pairs so no objects are made
+     * @Parameters characters - the roster being queried, index - the secondary index of the roster
+     * @Returns The matching slots in result order, Data Type: Integer[]
+     * Dependencies: Roster, SecondaryIndex, BitSet, Arrays
+     * Throws/Exceptions: N/A
+     */
+
+    public int[] execute(Roster characters, SecondaryIndex index) {
+        BitSet candidates = index.findCandidates(race, classOfCharacter, minimums[Stat.LEVEL.ordinal()], maximums[Stat.LEVEL.ordinal()]); // the slots left after the indexed conditions
+        boolean isSorted = sortStat != null || isSortedByName; // whether every match has to be found before the limit is applied
+        int[] slots = new int[candidates.cardinality()]; // the slots that match the query
+        int numberOfMatches = 0; // the number of matching slots found so far
+        for (int slot = candidates.nextSetBit(0); slot >= 0 && (isSorted || numberOfMatches < limit); slot = candidates.nextSetBit(slot + 1)) if (matches(characters, slot)) slots[numberOfMatches++] = slot;
+        if (sortStat != null) {
+            long[] keys = new long[numberOfMatches]; // the sort value of each slot in the high bits and the slot in the low bits
+            for (int i = 0; i < numberOfMatches; i++) {
+                long value = characters.getStat(slots[i], sortStat); // the value being sorted by
+                keys[i] = ((isDescending ? -value : value) << 32) | slots[i];
+            } Arrays.sort(keys);
+            for (int i = 0; i < numberOfMatches; i++) slots[i] = (int) keys[i];
+        } else if (isSortedByName) {
+            int[] unsortedSlots = Arrays.copyOf(slots, numberOfMatches); // the matching slots in slot order
+            String[] names = new String[numberOfMatches]; // the name of each match
+            Integer[] order = new Integer[numberOfMatches]; // the positions of the matches, boxed so they can be sorted by name
+            for (int i = 0; i < numberOfMatches; i++) {
+                order[i] = i;
+                names[i] = characters.get(unsortedSlots[i]).getName();
+            } Arrays.sort(order, Comparator.comparing((Integer position) -> names[position]));
+            for (int i = 0; i < numberOfMatches; i++) slots[i] = unsortedSlots[order[i]];
+        } return Arrays.copyOf(slots, Math.min(numberOfMatches, limit));
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Serves the characters of a CharacterUtils object over HTTP with JSON bodies, each request runs on its own virtual thread when the JDK has them and on a shared pool of threads otherwise
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class CharacterServer {
+
+    private final CharacterUtils myHelper; // CharacterUtils object the requests are run on
+    private final HttpServer server; // accepts the connections and parses the requests
+    private final ExecutorService executor; // runs the requests
+    private final boolean usesVirtualThreads; // whether every request gets its own virtual thread
+    private final static String CHARACTERS_PATH = "/characters"; // the path of the character resources
+    private final static int BACKLOG = 1024; // the most connections that can wait to be accepted
+    private final static int MAX_BODY_BYTES = 64 << 10; // the largest request body that is read
+    private final static int THREADS_PER_CORE = 4; // the size of the pool per core when there are no virtual threads, requests block on the disk so there are more threads than cores
+    private final static int DEFAULT_SEARCH_LIMIT = 10; // the most characters a name search returns unless a limit is given
+
+    public CharacterServer(CharacterUtils myHelper, InetSocketAddress address) throws IOException {
+        this.myHelper = myHelper;
+        ExecutorService virtualThreads = createVirtualThreadExecutor(); // null if the JDK has no virtual threads
+        usesVirtualThreads = virtualThreads != null;
+        executor = usesVirtualThreads ? virtualThreads : Executors.newFixedThreadPool(Math.max(8, THREADS_PER_CORE * Runtime.getRuntime().availableProcessors()));
+        server = HttpServer.create(address, BACKLOG);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+    }
+
+    /** Method Name: createVirtualThreadExecutor
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Creates an executor that starts a virtual thread for every task, found by reflection so the program still builds and runs on JDKs without virtual threads
+     * @Parameters N/A
+     * @Returns The executor, or null if the JDK has no virtual threads, Data Type: ExecutorService
+     * Dependencies: Executors
+     * Throws/Exceptions: N/A
+     */
+
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /** Method Name: stop
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Stops accepting requests, waits for the running ones up to a delay and shuts down the threads
+     * @Parameters delaySeconds - the most seconds to wait for running requests
+     * @Returns N/A, Data Type: Void
+     * Dependencies: HttpServer, ExecutorService
+     * Throws/Exceptions: N/A
+     */
+
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+    }
+
+    /** Method Name: handle
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Runs one request and sends its response, a bad request gets a 400 with the reason and a failed write gets a 500
+     * @Parameters exchange - the request and its response
+     * @Returns N/A, Data Type: Void
+     * Dependencies: HttpExchange
+     * Throws/Exceptions: IOException
+     */
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            try {
+                route(exchange);
+            } catch (IllegalArgumentException e) {
+                sendError(exchange, 400, e.getMessage() == null ? "Bad request." : e.getMessage());
+            } catch (IOException | RuntimeException e) {
+                sendError(exchange, 500, e.toString());
+            } myHelper.flushIfDue();
+        }
+    }
+
+    /** Method Name: route
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Picks the operation of a request by its method and path
+     * @Parameters exchange - the request and its response
+     * @Returns N/A, Data Type: Void
+     * Dependencies: HttpExchange
+     * Throws/Exceptions: IOException, IllegalArgumentException
+     */
+
+    private void route(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod().toUpperCase(Locale.ROOT); // the HTTP method of the request
+        String path = exchange.getRequestURI().getPath(); // the decoded path of the request
+        if (path.equals("/health")) {
+            if (method.equals("GET")) sendJson(exchange, 200, "{\"status\":\"ok\",\"characters\":" + myHelper.getNumberOfCharacters() + "}");
+            else sendError(exchange, 405, "Use GET.");
+        } else if (path.equals(CHARACTERS_PATH) || path.equals(CHARACTERS_PATH + "/")) {
+            switch (method) {
+                case "GET" -> listCharacters(exchange);
+                case "POST" -> addCharacter(exchange);
+                default -> sendError(exchange, 405, "Use GET or POST.");
+            }
+        } else if (path.startsWith(CHARACTERS_PATH + "/")) {
+            String name = path.substring(CHARACTERS_PATH.length() + 1); // the name of the character, and maybe an action after it
+            if (name.endsWith("/levelup")) {
+                if (method.equals("POST")) levelUp(exchange, name.substring(0, name.length() - "/levelup".length()));
+                else sendError(exchange, 405, "Use POST.");
+            } else switch (method) {
+                case "GET" -> getCharacter(exchange, name);
+                case "PATCH" -> updateCharacter(exchange, name);
+                case "DELETE" -> deleteCharacter(exchange, name);
+                default -> sendError(exchange, 405, "Use GET, PATCH or DELETE.");
+            }
+        } else sendError(exchange, 404, "No such resource.");
+    }
+
+    private void getCharacter(HttpExchange exchange, String name) throws IOException {
+        Character character = myHelper.getCharacter(name); // the character, null if no character has that name
+        if (character == null) sendError(exchange, 404, myHelper.getNotFoundMessage(name));
+        else sendJson(exchange, 200, CharacterJson.toJson(character));
+    }
+
+    /** Method Name: listCharacters
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Sends the characters that match the query string, either a name search (search=text) or a query by race, class, level, sort order and limit (ex. race=Elf&minLevel=3&sort=strength&order=desc&limit=5)
+     * @Parameters exchange - the request and its response
+     * @Returns N/A, Data Type: Void
+     * Dependencies: CharacterQuery, CharacterJson
+     * Throws/Exceptions: IOException, IllegalArgumentException
+     */
+
+    private void listCharacters(HttpExchange exchange) throws IOException {
+        Map<String, String> parameters = parseQueryString(exchange.getRequestURI().getRawQuery()); // the parameters of the query string
+        if (parameters.containsKey("search")) {
+            int limit = parameters.containsKey("limit") ? parseLimit(parameters.get("limit")) : DEFAULT_SEARCH_LIMIT; // the most characters returned
+            sendJson(exchange, 200, CharacterJson.toJson(myHelper.searchByName(parameters.get("search"), limit)));
+            return;
+        } CharacterQuery query = new CharacterQuery(); // the query built from the parameters
+        for (Map.Entry<String, String> parameter : parameters.entrySet()) {
+            String value = parameter.getValue(); // the value of the parameter
+            switch (parameter.getKey()) {
+                case "race" -> query.race(parseRace(value));
+                case "class" -> query.classOfCharacter(parseClass(value));
+                case "minLevel" -> query.atLeast(Stat.LEVEL, Integer.parseInt(value));
+                case "maxLevel" -> query.atMost(Stat.LEVEL, Integer.parseInt(value));
+                case "name" -> query.nameContains(value);
+                case "limit" -> query.limit(parseLimit(value));
+                case "order" -> {
+                    if (!value.equals("asc") && !value.equals("desc")) throw new IllegalArgumentException("order must be asc or desc.");
+                } case "sort" -> {
+                    if (value.equalsIgnoreCase("name")) query.sortByName();
+                    else query.sortBy(parseStat(value), "desc".equals(parameters.get("order")));
+                } default -> throw new IllegalArgumentException(parameter.getKey() + " is not a valid parameter.");
+            }
+        } sendJson(exchange, 200, CharacterJson.toJson(myHelper.query(query)));
+    }
+
+    /** Method Name: addCharacter
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Adds a character with generated stats from a body like {"name":"New Guy","race":"Elf","class":"Mage","level":3}, the level is optional
+     * @Parameters exchange - the request and its response
+     * @Returns N/A, Data Type: Void
+     * Dependencies: CharacterJson, Character
+     * Throws/Exceptions: IOException, IllegalArgumentException
+     */
+
+    private void addCharacter(HttpExchange exchange) throws IOException {
+        Map<String, String> body = readBody(exchange); // the values of the request body
+        String name = body.get("name"); // the name of the new character
+        if (name == null || name.isBlank()) throw new IllegalArgumentException("A name is required.");
+        Character character = new Character(); // the character being added
+        character.setName(name);
+        character.setRace(parseRace(body.get("race")));
+        character.setClassOfCharacter(parseClass(body.get("class")));
+        character.generateStats();
+        character.setLevel(1);
+        if (body.get("level") != null) character.levelUp(Integer.parseInt(body.get("level")) - 1);
+        if (myHelper.addCharacterIfAbsent(character) == -1) sendError(exchange, 409, "A character named " + name + " already exists.");
+        else sendJson(exchange, 201, CharacterJson.toJson(character));
+    }
+
+    private void deleteCharacter(HttpExchange exchange, String name) throws IOException {
+        if (!myHelper.deleteCharacter(name)) sendError(exchange, 404, myHelper.getNotFoundMessage(name));
+        else exchange.sendResponseHeaders(204, -1);
+    }
+
+    /** Method Name: levelUp
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Levels a character up by the number of levels in a body like {"levels":2}, one level without a body
+     * @Parameters exchange - the request and its response, name - the name of the character
+     * @Returns N/A, Data Type: Void
+     * Dependencies: CharacterUtils
+     * Throws/Exceptions: IOException, IllegalArgumentException
+     */
+
+    private void levelUp(HttpExchange exchange, String name) throws IOException {
+        Map<String, String> body = readBody(exchange); // the values of the request body
+        int numberOfLevels = body.get("levels") == null ? 1 : Integer.parseInt(body.get("levels")); // the number of levels gained
+        if (numberOfLevels < 0) throw new IllegalArgumentException("levels can not be negative.");
+        sendEdited(exchange, name, myHelper.editCharacter(name, character -> character.levelUp(numberOfLevels)));
+    }
+
+    /** Method Name: updateCharacter
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Changes the race, class or stats of a character from a body like {"race":"Orc","strength":18}, a new race or class applies its modifiers like the menu does. Every value is checked before anything is changed
+     * @Parameters exchange - the request and its response, name - the name of the character
+     * @Returns N/A, Data Type: Void
+     * Dependencies: CharacterUtils, Stat
+     * Throws/Exceptions: IOException, IllegalArgumentException
+     */
+
+    private void updateCharacter(HttpExchange exchange, String name) throws IOException {
+        Map<String, String> body = readBody(exchange); // the values of the request body
+        Race race = body.containsKey("race") ? parseRace(body.get("race")) : null; // the new race, null to keep it
+        CharacterClass classOfCharacter = body.containsKey("class") ? parseClass(body.get("class")) : null; // the new class, null to keep it
+        Map<Stat, Integer> stats = new HashMap<>(); // the new values of stats
+        for (Map.Entry<String, String> value : body.entrySet()) {
+            if (value.getKey().equals("race") || value.getKey().equals("class")) continue;
+            if (value.getKey().equals("name")) throw new IllegalArgumentException("A character can not be renamed here.");
+            if (value.getValue() == null) throw new IllegalArgumentException(value.getKey() + " can not be null.");
+            stats.put(parseStat(value.getKey()), Integer.parseInt(value.getValue()));
+        } sendEdited(exchange, name, myHelper.editCharacter(name, character -> {
+            if (race != null) character.changeRace(race);
+            if (classOfCharacter != null) character.changeClass(classOfCharacter);
+            for (Map.Entry<Stat, Integer> stat : stats.entrySet()) character.setStat(stat.getKey(), stat.getValue());
+        }));
+    }
+
+    private void sendEdited(HttpExchange exchange, String name, Character character) throws IOException {
+        if (character == null) sendError(exchange, 404, myHelper.getNotFoundMessage(name));
+        else sendJson(exchange, 200, CharacterJson.toJson(character));
+    }
+
+    private static Race parseRace(String name) {
+        Race race = name == null ? null : Race.fromName(name); // the race with that name
+        if (race == null) throw new IllegalArgumentException(name + " is not a valid race.");
+        return race;
+    }
+
+    private static CharacterClass parseClass(String name) {
+        CharacterClass classOfCharacter = name == null ? null : CharacterClass.fromName(name); // the class with that name
+        if (classOfCharacter == null) throw new IllegalArgumentException(name + " is not a valid class.");
+        return classOfCharacter;
+    }
+
+    private static Stat parseStat(String name) {
+        Stat stat = Stat.fromName(name); // the stat with that name
+        if (stat == null) throw new IllegalArgumentException(name + " is not a valid stat.");
+        return stat;
+    }
+
+    private static int parseLimit(String value) {
+        int limit = Integer.parseInt(value); // the most characters returned
+        if (limit < 1) throw new IllegalArgumentException("limit must be at least 1.");
+        return limit;
+    }
+
+    /** Method Name: readBody
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Reads the JSON object in the body of a request, an empty body is an empty object
+     * @Parameters exchange - the request and its response
+     * @Returns The values of the object by key, Data Type: Map<String, String>
+     * Dependencies: CharacterJson, InputStream
+     * Throws/Exceptions: IOException, IllegalArgumentException
+     */
+
+    private static Map<String, String> readBody(HttpExchange exchange) throws IOException {
+        byte[] body; // the bytes of the body
+        try (InputStream input = exchange.getRequestBody()) { // reads the body
+            body = input.readNBytes(MAX_BODY_BYTES + 1);
+        } if (body.length > MAX_BODY_BYTES) throw new IllegalArgumentException("The request body is larger than " + MAX_BODY_BYTES + " bytes.");
+        String text = new String(body, StandardCharsets.UTF_8); // the body as text
+        return text.isBlank() ? new HashMap<>() : CharacterJson.parseObject(text);
+    }
+
+    /** Method Name: parseQueryString
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Splits a raw query string into its decoded parameters
+     * @Parameters rawQuery - the query string as it was sent, or null
+     * @Returns The parameters by name, Data Type: Map<String, String>
+     * Dependencies: URLDecoder
+     * Throws/Exceptions: N/A
+     */
+
+    private static Map<String, String> parseQueryString(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>(); // the parameters read so far
+        if (rawQuery == null || rawQuery.isEmpty()) return parameters;
+        for (String pair : rawQuery.split("&")) {
+            if (pair.isEmpty()) continue;
+            int equals = pair.indexOf('='); // where the name ends
+            String name = URLDecoder.decode(equals < 0 ? pair : pair.substring(0, equals), StandardCharsets.UTF_8); // the name of the parameter
+            parameters.put(name, equals < 0 ? "" : URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8));
+        } return parameters;
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        StringBuilder json = new StringBuilder("{\"error\":"); // the body of the response
+        CharacterJson.appendString(message, json);
+        sendJson(exchange, status, json.append('}').toString());
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8); // the bytes of the response
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream output = exchange.getResponseBody()) { // writes the response
+            output.write(body);
+        }
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    public boolean usesVirtualThreads() {
+        return usesVirtualThreads;
+    }
+}
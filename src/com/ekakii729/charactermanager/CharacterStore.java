@@ -0,0 +1,118 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: A binary file of fixed length character records that can be read and written one record at a time
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface CharacterStore extends Closeable {
+
+    /** Method Name: getNumberOfRecords
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets the number of records in the store, including deleted ones
+     * @Parameters N/A
+     * @Returns The number of records, Data Type: Integer
+     * Dependencies: N/A
+     * Throws/Exceptions: IOException
+     */
+
+    int getNumberOfRecords() throws IOException;
+
+    /** Method Name: setNumberOfRecords
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Grows or shrinks the store to a number of records
+     * @Parameters numberOfRecords - the new number of records
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: IOException
+     */
+
+    void setNumberOfRecords(int numberOfRecords) throws IOException;
+
+    /** Method Name: readRecord
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Reads a record into a character
+     * @Parameters numberOfRecord - the number of the record, character - the character the values are assigned to
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: IOException
+     */
+
+    void readRecord(int numberOfRecord, Character character) throws IOException;
+
+    /** Method Name: writeRecord
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Writes a character to a record, growing the store if the record is past the end
+     * @Parameters numberOfRecord - the number of the record, character - the character being written
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: IOException
+     */
+
+    void writeRecord(int numberOfRecord, Character character) throws IOException;
+
+    /** Method Name: writeRecords
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Writes characters to a run of records that follow each other, stores that can write the run at once should do so instead of a write for each record
+     * @Parameters firstRecord - the number of the first record, characters - the characters being written, numberOfCharacters - the number of characters from the start of the array being written
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: IOException
+     */
+
+    default void writeRecords(int firstRecord, Character[] characters, int numberOfCharacters) throws IOException {
+        for (int i = 0; i < numberOfCharacters; i++) writeRecord(firstRecord + i, characters[i]);
+    }
+
+    /** Method Name: writeTombstone
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Marks a record as deleted
+     * @Parameters numberOfRecord - the number of the record
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: IOException
+     */
+
+    void writeTombstone(int numberOfRecord) throws IOException;
+
+    /** Method Name: flush
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Forces every write made so far onto the disk
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: IOException
+     */
+
+    void flush() throws IOException;
+
+    /** Method Name: getFormat
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets the layout the records of the store are kept in
+     * @Parameters N/A
+     * @Returns The record format, Data Type: RecordFormat
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    RecordFormat getFormat();
+}
@@ -6,86 +6,539 @@
 
 package com.ekakii729.charactermanager;
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.BitSet;
 import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
 
-public class CharacterUtils {
+public class CharacterUtils implements Closeable {
 
-    private Character[] characters; // the list of characters
+    private final Roster characters; // the list of characters, indexed by their slot in the binary file
     private String binaryFileName; //  the name of the binary file that is being written to
+    private volatile NameIndex nameIndex; // maps the name of each character to its index in the list
+    private final SecondaryIndex secondaryIndex; // groups the indexes of the characters by race, class and level for queries
+    private final NameSearchIndex nameSearchIndex; // finds characters by part of their name or a misspelled name
+    private boolean areSearchIndexesBuilt; // whether the secondary and name search indexes describe the list, they are only built when first needed in lazy mode
+    private final boolean lazyLoad; // whether characters are left in the binary file and only decoded when they are used
+    private boolean persistNameIndex; // whether the name index is kept in a file next to the binary file
+    private boolean isIndexOfFile; // whether the name index describes the binary file, false until the file has been read or written
+    private boolean useMappedStore; // whether the binary file is accessed through a memory mapped store
+    private boolean bulkMode; // whether whole file loads and saves go through large buffers instead of the store
+    private boolean useWriteAheadLog; // whether record writes go through a write-ahead log so a crash can not leave a half written record
+    private CharacterStore store; // the open store of the binary file, null until a record is first accessed
+    private FlushPolicy flushPolicy; // how often writes to the store are forced onto the disk
+    private int writesPerFlush; // the number of writes between flushes when the policy is EVERY_N_WRITES
+    private int writesSinceFlush; // the number of writes made since the store was last flushed
+    private boolean parallelImport; // whether large text files are imported on every core when there is more than one
+    private boolean isBatching; // whether record writes are being held back until the batch ends
+    private boolean writeBack; // whether changed records are held in memory and written in groups instead of right away
+    private int writeBackLimit; // the number of held back records that makes write-back mode write them
+    private long writeBackNanos; // the longest a changed record is held back in write-back mode, in nanoseconds
+    private final BitSet dirtyRecords; // the records that were changed but have not been written to the binary file yet
+    private int numberOfDirtyRecords; // the number of records that are held back
+    private long firstDirtyTime; // when the oldest held back record was changed, from System.nanoTime
+    private final StampedLock lock; // guards the list, the name index and the binary file, edits of single records share it while loads, saves, adds, deletes and renames hold it alone
+    private volatile Thread exclusiveOwner; // the thread holding the lock alone, so the methods it calls do not wait for the lock again
+    private final Object[] recordLocks; // keeps edits of the same record in order, a record uses the lock of its index modulo the number of locks
+    private final Object searchIndexLock; // guards the secondary and name search indexes, which are changed by edits that only share the lock
+    private final OperationMetrics metrics; // counts and times loads, saves, lookups, adds, deletes and the record reads and writes of the store
+    private final static int NUMBER_OF_RECORD_LOCKS = 64; // the number of record locks, a power of two
+    private final static int RECORDS_PER_RUN = 256; // the most records that are written to the store with one call
+    private final static int MIN_FREE_SLOTS_TO_COMPACT = 64; // deleted slots are only compacted away once there are at least this many
+    private final static long MIN_PARALLEL_IMPORT_LENGTH = 1 << 20; // text files smaller than this many bytes are imported on one thread
 
     public CharacterUtils(int size) {
-        characters = new Character[size];
+        lazyLoad = Boolean.getBoolean("charactermanager.lazyLoad");
+        if (lazyLoad) characters = new LazyRoster(this::readStoredRecord, Integer.getInteger("charactermanager.lazyCacheSize", 4096));
+        else characters = Boolean.getBoolean("charactermanager.columnarRoster") ? new ColumnarRoster(size) : new ObjectRoster(size);
+        areSearchIndexesBuilt = false;
         binaryFileName = "myCharacters.bin";
+        nameIndex = new NameIndex();
+        secondaryIndex = new SecondaryIndex();
+        nameSearchIndex = new NameSearchIndex();
+        persistNameIndex = true;
+        isIndexOfFile = false;
+        useMappedStore = Boolean.getBoolean("charactermanager.mappedStore");
+        bulkMode = Boolean.parseBoolean(System.getProperty("charactermanager.bulkMode", "true"));
+        useWriteAheadLog = Boolean.parseBoolean(System.getProperty("charactermanager.writeAheadLog", "true"));
+        flushPolicy = FlushPolicy.valueOf(System.getProperty("charactermanager.flushPolicy", FlushPolicy.ON_CLOSE.name()));
+        writesPerFlush = Integer.getInteger("charactermanager.writesPerFlush", 100);
+        writesSinceFlush = 0;
+        parallelImport = Boolean.parseBoolean(System.getProperty("charactermanager.parallelImport", "true"));
+        isBatching = false;
+        writeBack = Boolean.getBoolean("charactermanager.writeBack");
+        writeBackLimit = Integer.getInteger("charactermanager.writeBackLimit", 1024);
+        writeBackNanos = Long.getLong("charactermanager.writeBackMillis", 5000) * 1_000_000;
+        dirtyRecords = new BitSet();
+        numberOfDirtyRecords = 0;
+        firstDirtyTime = 0;
+        lock = new StampedLock();
+        exclusiveOwner = null;
+        recordLocks = new Object[NUMBER_OF_RECORD_LOCKS];
+        for (int i = 0; i < NUMBER_OF_RECORD_LOCKS; i++) recordLocks[i] = new Object();
+        searchIndexLock = new Object();
+        metrics = new OperationMetrics(Boolean.parseBoolean(System.getProperty("charactermanager.metrics", "true")));
+    }
+
+    /** Method Name: lockExclusively
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Takes the lock for a change to the whole list, waiting until no other thread reads or edits it. A thread that already holds the lock alone does not take it again, so locked methods can call each other
+     * @Parameters N/A
+     * @Returns The stamp to unlock with, or 0 if the thread already held the lock, Data Type: Long
+     * Dependencies: StampedLock
+     * Throws/Exceptions: N/A
+     */
+
+    private long lockExclusively() {
+        if (exclusiveOwner == Thread.currentThread()) return 0;
+        long stamp = lock.writeLock(); // the stamp of the lock
+        exclusiveOwner = Thread.currentThread();
+        return stamp;
+    }
+
+    private void unlockExclusively(long stamp) {
+        if (stamp == 0) return;
+        exclusiveOwner = null;
+        lock.unlockWrite(stamp);
+    }
+
+    /** Method Name: lockShared
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Takes the lock for reading the list or editing single records, which any number of threads can hold at once
+     * @Parameters N/A
+     * @Returns The stamp to unlock with, or 0 if the thread already held the lock alone, Data Type: Long
+     * Dependencies: StampedLock
+     * Throws/Exceptions: N/A
+     */
+
+    private long lockShared() {
+        return exclusiveOwner == Thread.currentThread() ? 0 : lock.readLock();
+    }
+
+    private void unlockShared(long stamp) {
+        if (stamp != 0) lock.unlockRead(stamp);
+    }
+
+    private Object getRecordLock(int numberOfRecord) {
+        return recordLocks[numberOfRecord & (NUMBER_OF_RECORD_LOCKS - 1)];
+    }
+
+    /** Method Name: openStore
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Opens a binary file as a character store of the configured type
+     * @Parameters fileName - the name of the binary file
+     * @Returns The opened store, Data Type: CharacterStore
+     * Dependencies: MappedCharacterStore, RandomAccessCharacterStore
+     * Throws/Exceptions: IOException
+     */
+
+    private CharacterStore openStore(String fileName) throws IOException {
+        return useMappedStore ? new MappedCharacterStore(fileName) : new RandomAccessCharacterStore(fileName);
+    }
+
+    /** Method Name: getStore
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets the store of the current binary file, opening it the first time it is needed, behind a write-ahead log unless that is turned off. The reads, writes and flushes of the store are measured, including the time spent in the log
+     * @Parameters N/A
+     * @Returns The open store, Data Type: CharacterStore
+     * Dependencies: JournaledCharacterStore, MeteredCharacterStore
+     * Throws/Exceptions: IOException
+     */
+
+    private synchronized CharacterStore getStore() throws IOException {
+        if (store != null) return store;
+        store = useWriteAheadLog ? new JournaledCharacterStore(openStore(binaryFileName), binaryFileName) : openStore(binaryFileName);
+        if (metrics.isEnabled()) store = new MeteredCharacterStore(store, metrics);
+        return store;
+    }
+
+    /** Method Name: readStoredRecord
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Reads a record of the current binary file, used by the lazy roster to decode characters when they are first used
+     * @Parameters numberOfRecord - the number of the record, character - the character the values are assigned to
+     * @Returns N/A, Data Type: Void
+     * Dependencies: CharacterStore
+     * Throws/Exceptions: IOException
+     */
+
+    private void readStoredRecord(int numberOfRecord, Character character) throws IOException {
+        getStore().readRecord(numberOfRecord, character);
+    }
+
+    /** Method Name: closeStore
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Writes the records held back by a batch, flushes any writes that have not been forced to disk yet and closes the store of the current binary file
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: IOException
+     */
+
+    private void closeStore() throws IOException {
+        writeDirtyRecords();
+        if (store == null) return;
+        try {
+            if (writesSinceFlush > 0) store.flush();
+        } finally {
+            writesSinceFlush = 0;
+            store.close();
+            store = null;
+        }
+    }
+
+    /** Method Name: recordWritten
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Counts writes to the store and flushes it when the flush policy asks for it, a pass over held back records counts as one write so it is only flushed once
+     * @Parameters numberOfWrites - the number of records written
+     * @Returns N/A, Data Type: Void
+     * Dependencies: FlushPolicy
+     * Throws/Exceptions: IOException
+     */
+
+    private void recordWritten(int numberOfWrites) throws IOException {
+        synchronized (dirtyRecords) {
+            writesSinceFlush += numberOfWrites;
+            if (flushPolicy == FlushPolicy.EVERY_WRITE || (flushPolicy == FlushPolicy.EVERY_N_WRITES && writesSinceFlush >= writesPerFlush)) {
+                store.flush();
+                writesSinceFlush = 0;
+            }
+        }
+    }
+
+    /** Method Name: beginBatch
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Starts holding back record writes, the list and indexes still change right away but each changed record is only written once when the batch ends
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    public void beginBatch() {
+        long stamp = lockExclusively(); // the stamp of the lock, 0 if this thread already held it
+        try {
+            isBatching = true;
+        } finally {
+            unlockExclusively(stamp);
+        }
+    }
+
+    /** Method Name: endBatch
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Writes every record changed since the batch began and goes back to writing each change right away
+     * @Parameters N/A
+     * @Returns The number of records written, Data Type: Integer
+     * Dependencies: N/A
+     * Throws/Exceptions: IOException
+     */
+
+    public int endBatch() throws IOException {
+        long stamp = lockExclusively(); // the stamp of the lock, 0 if this thread already held it
+        try {
+            isBatching = false;
+            return writeDirtyRecords();
+        } finally {
+            unlockExclusively(stamp);
+        }
+    }
+
+    /** Method Name: writeDirtyRecords
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Writes the held back records in one pass in file order, records that follow each other are written as one run and a record changed many times is only written once. The list is told about each record written so a lazy list can let go of it
+     * @Parameters N/A
+     * @Returns The number of records written, Data Type: Integer
+     * Dependencies: BitSet, CharacterStore
+     * Throws/Exceptions: IOException
+     */
+
+    private int writeDirtyRecords() throws IOException {
+        synchronized (dirtyRecords) {
+            if (numberOfDirtyRecords == 0) return 0;
+            CharacterStore store = getStore(); // accesses binary file
+            Character[] run = new Character[Math.min(numberOfDirtyRecords, RECORDS_PER_RUN)]; // the characters of the run being written
+            Character tombstone = Character.createTombstone(); // written in place of deleted characters
+            int numberOfWrites = 0; // the number of records written
+            for (int first = dirtyRecords.nextSetBit(0); first >= 0; first = dirtyRecords.nextSetBit(first)) {
+                int end = Math.min(dirtyRecords.nextClearBit(first), first + run.length); // the record after the run
+                for (int i = first; i < end; i++) run[i - first] = characters.isFree(i) ? tombstone : characters.get(i);
+                store.writeRecords(first, run, end - first);
+                for (int i = first; i < end; i++) characters.markWritten(i);
+                dirtyRecords.clear(first, end);
+                numberOfWrites += end - first;
+                first = end;
+            } numberOfDirtyRecords = 0;
+            recordWritten(numberOfWrites);
+            return numberOfWrites;
+        }
+    }
+
+    /** Method Name: markDirty
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Holds back the write of a changed record, in write-back mode the held back records are written once there are too many of them or the oldest has waited too long
+     * @Parameters numberOfRecord - the index of the changed character
+     * @Returns N/A, Data Type: Void
+     * Dependencies: BitSet
+     * Throws/Exceptions: IOException
+     */
+
+    private void markDirty(int numberOfRecord) throws IOException {
+        synchronized (dirtyRecords) {
+            if (numberOfDirtyRecords == 0) firstDirtyTime = System.nanoTime();
+            if (!dirtyRecords.get(numberOfRecord)) {
+                dirtyRecords.set(numberOfRecord);
+                numberOfDirtyRecords++;
+            } if (!isBatching && numberOfDirtyRecords >= writeBackLimit) writeDirtyRecords();
+            else writeDirtyRecordsIfDue();
+        }
+    }
+
+    /** Method Name: flushIfDue
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Writes the held back records of write-back mode if the oldest of them has waited longer than the write-back time, called after every menu option
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: IOException
+     */
+
+    public void flushIfDue() throws IOException {
+        long stamp = lockShared(); // the stamp of the lock, 0 if this thread already held it
+        try {
+            writeDirtyRecordsIfDue();
+        } finally {
+            unlockShared(stamp);
+        }
+    }
+
+    private void writeDirtyRecordsIfDue() throws IOException {
+        synchronized (dirtyRecords) {
+            if (!isBatching && numberOfDirtyRecords > 0 && System.nanoTime() - firstDirtyTime >= writeBackNanos) writeDirtyRecords();
+        }
+    }
+
+    /** Method Name: flushDirtyRecords
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Writes every held back record and forces the writes onto the disk
+     * @Parameters N/A
+     * @Returns The number of records written, Data Type: Integer
+     * Dependencies: CharacterStore
+     * Throws/Exceptions: IOException
+     */
+
+    public int flushDirtyRecords() throws IOException {
+        long stamp = lockExclusively(); // the stamp of the lock, 0 if this thread already held it
+        try {
+            int numberOfWrites = writeDirtyRecords(); // the number of records written
+            if (store != null && writesSinceFlush > 0) {
+                store.flush();
+                writesSinceFlush = 0;
+            } return numberOfWrites;
+        } finally {
+            unlockExclusively(stamp);
+        }
+    }
+
+    /** Method Name: close
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Saves the name index and closes the binary file, called when the program quits
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: IOException
+     */
+
+    public void close() throws IOException {
+        long stamp = lockExclusively(); // the stamp of the lock, 0 if this thread already held it
+        try {
+            closeStore();
+            persistNameIndexToFile();
+        } finally {
+            unlockExclusively(stamp);
+        }
     }
 
     /** Method Name: readFromTextFile
      * @Author Abhay Manoj
      * @Date October 7, 2023
-     * @Modified October 10, 2023
-     * @Description Reads content of text file and writes to character array while writing to new binary file
+     * @Modified October 17, 2026
+     * @Description Streams content of text file into a new binary file, in parallel when the file is large. The binary file is then read into the character array, or in lazy mode only opened so the characters stay on disk. A text file with an invalid character leaves the binary file as it was
      * @Parameters fileName - name of the file
      * @Returns N/A, Data Type: Void
-     * Dependencies: BufferedReader, FileReader
-     * Throws/Exceptions: FileNotFoundException, IOException
+     * Dependencies: TextImporter, ParallelTextImporter, ForkJoinPool, LazyRoster
+     * Throws/Exceptions: FileNotFoundException, IOException, IllegalArgumentException
      */
 
     public void userTextFileChoiceToArray(String fileName) {
+        long stamp = lockExclusively(); // the stamp of the lock, 0 if this thread already held it
+        long start = metrics.start(Operation.IMPORT); // when the import started
         try {
-            BufferedReader reader = new BufferedReader(new FileReader(fileName)); // used to access the text file
-            int i = 0; // used to access indexes in the character array
-            while (reader.ready()) {
-                characters[i] = new Character();
-                characters[i].setName(reader.readLine());
-                characters[i].setRace(reader.readLine());
-                characters[i].setClassOfCharacter(reader.readLine());
-                characters[i].setLevel(Integer.parseInt(reader.readLine()));
-                characters[i].setHitPoints(Integer.parseInt(reader.readLine()));
-                characters[i].setStrength(Integer.parseInt(reader.readLine()));
-                characters[i].setConstitution(Integer.parseInt(reader.readLine()));
-                characters[i].setIntelligence(Integer.parseInt(reader.readLine()));
-                characters[i].setWisdom(Integer.parseInt(reader.readLine()));
-                characters[i].setDexterity(Integer.parseInt(reader.readLine()));
-                characters[i].setCharisma(Integer.parseInt(reader.readLine()));
-                i++;
-            } reader.close();
-            writeToFile();
+            closeStore();
+            Files.deleteIfExists(WriteAheadLog.getLogFile(binaryFileName).toPath());
+            int numberOfRecords; // the number of characters imported
+            if (parallelImport && ForkJoinPool.getCommonPoolParallelism() > 1 && new File(fileName).length() >= MIN_PARALLEL_IMPORT_LENGTH) numberOfRecords = ParallelTextImporter.importFile(fileName, binaryFileName, ForkJoinPool.commonPool());
+            else numberOfRecords = TextImporter.importFile(fileName, binaryFileName);
+            if (lazyLoad) openImportedFile(numberOfRecords);
+            else readKnownBinaryFileToArray();
             System.out.println("\nFile has been successfully read.");
         } catch (FileNotFoundException e) {
             System.out.println("\nFILE NOT FOUND ERROR, CHECK WHERE FILE WAS PLACED --> " + e);
         } catch (IOException e) {
             System.out.println("\nI/O ERROR --> " + e);
+        } catch (IllegalArgumentException e) {
+            System.out.println("\nINVALID CHARACTER ERROR, THE FILE WAS NOT IMPORTED --> " + e.getMessage());
+        } finally {
+            metrics.stop(Operation.IMPORT, start);
+            unlockExclusively(stamp);
+        }
+    }
+
+    /** Method Name: openImportedFile
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Points the lazy list at a binary file that was just imported, an import writes no deleted records so the file does not have to be scanned for them and no character is read until it is asked for
+     * @Parameters numberOfRecords - the number of characters imported
+     * @Returns N/A, Data Type: Void
+     * Dependencies: LazyRoster, BitSet
+     * Throws/Exceptions: N/A
+     */
+
+    private void openImportedFile(int numberOfRecords) {
+        ((LazyRoster) characters).open(numberOfRecords, new BitSet());
+        isIndexOfFile = true;
+        loadNameIndex();
+        areSearchIndexesBuilt = false;
+    }
+
+    /** Method Name: generateCharacters
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Replaces the characters of the binary file with generated ones, the file is filled in parallel and then read back into the character array. Writes held back for the old characters are dropped
+     * @Parameters generator - picks the races, classes, levels and names, numberOfCharacters - the number of characters to generate
+     * @Returns N/A, Data Type: Void
+     * Dependencies: CharacterGenerator, ForkJoinPool
+     * Throws/Exceptions: IOException, IllegalArgumentException
+     */
+
+    public void generateCharacters(CharacterGenerator generator, int numberOfCharacters) {
+        long stamp = lockExclusively(); // the stamp of the lock, 0 if this thread already held it
+        try {
+            dirtyRecords.clear();
+            numberOfDirtyRecords = 0;
+            closeStore();
+            Files.deleteIfExists(WriteAheadLog.getLogFile(binaryFileName).toPath());
+            generator.generateFile(binaryFileName, numberOfCharacters, ForkJoinPool.commonPool());
+            readKnownBinaryFileToArray();
+            System.out.println("\n" + numberOfCharacters + " character(s) have been generated.");
+        } catch (IOException e) {
+            System.out.println("\nI/O ERROR --> " + e);
+        } finally {
+            unlockExclusively(stamp);
         }
     }
 
     /** Method Name: readKnownBinaryFileToArray
      * @Author Abhay Manoj
      * @Date October 7, 2023
-     * @Modified October 10, 2023
-     * @Description Reads content of binary file and writes to character array
+     * @Modified October 17, 2026
+     * @Description Reads content of binary file and writes to character array, a write-ahead log left behind by a crash is replayed into the file first. In lazy mode only the deleted records are found and the search indexes wait until they are used
      * @Parameters N/A
      * @Returns N/A, Data Type: Void
-     * Dependencies: RandomAccessFile
+     * Dependencies: BulkRecordFile, CharacterStore, WriteAheadLog, LazyRoster
      * Throws/Exceptions: FileNotFoundException, IOException
      */
 
     public void readKnownBinaryFileToArray() {
+        long stamp = lockExclusively(); // the stamp of the lock, 0 if this thread already held it
+        long start = metrics.start(Operation.LOAD); // when the load started
         try {
-            RandomAccessFile randomAccessor = new RandomAccessFile(binaryFileName, "rw"); // used to read binary file
-            for (int i = 0; i < characters.length; i++) {
-                characters[i] = new Character();
-                characters[i].readRecord(randomAccessor, i);
-            } randomAccessor.close();
+            closeStore();
+            int numberOfRecoveredWrites = WriteAheadLog.recover(binaryFileName); // the number of logged writes that had not reached the file
+            if (numberOfRecoveredWrites > 0) System.out.println("\nRecovered " + numberOfRecoveredWrites + " unsaved change(s) from the write-ahead log.");
+            if (lazyLoad) BulkRecordFile.readSlots(binaryFileName, (LazyRoster) characters);
+            else if (bulkMode) BulkRecordFile.readAll(binaryFileName, characters);
+            else {
+                CharacterStore store = getStore(); // used to read binary file
+                int numberOfRecords = store.getNumberOfRecords(); // the number of records in the file
+                characters.clear();
+                for (int i = 0; i < numberOfRecords; i++) {
+                    Character character = new Character(); // the character being read
+                    store.readRecord(i, character);
+                    characters.append(character.isTombstone() ? null : character);
+                }
+            }
+            isIndexOfFile = true;
+            loadNameIndex();
+            areSearchIndexesBuilt = false;
+            if (!lazyLoad) buildSearchIndexes();
         } catch (FileNotFoundException e) {
             System.out.println("\nFILE NOT FOUND ERROR, CHECK WHERE FILE WAS PLACED --> " + e);
         } catch (IOException e) {
             System.out.println("\nI/O ERROR --> " + e);
+        } finally {
+            metrics.stop(Operation.LOAD, start);
+            unlockExclusively(stamp);
+        }
+    }
+
+    /** Method Name: buildSearchIndexes
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Fills the secondary and name search indexes from the character list if they have not been built since it was last loaded or compacted
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: SecondaryIndex, NameSearchIndex
+     * Throws/Exceptions: N/A
+     */
+
+    private void buildSearchIndexes() {
+        synchronized (searchIndexLock) {
+            if (areSearchIndexesBuilt) return;
+            secondaryIndex.rebuild(characters);
+            nameSearchIndex.rebuild(characters);
+            areSearchIndexesBuilt = true;
         }
     }
 
     /** Method Name: userBinaryFileChoiceToArray
      * @Author Abhay Manoj
      * @Date October 7, 2023
-     * @Modified October 10, 2023
+     * @Modified October 17, 2026
      * @Description Reads content of user chosen binary file and writes to character array
      * @Parameters fileName - name of the file
      * @Returns N/A, Data Type: Void
@@ -94,35 +547,93 @@ public class CharacterUtils {
      */
 
     public void userBinaryFileChoiceToArray(String fileName) {
-        binaryFileName = fileName;
-        readKnownBinaryFileToArray();
+        long stamp = lockExclusively(); // the stamp of the lock, 0 if this thread already held it
+        try {
+            try {
+                close();
+            } catch (IOException e) {
+                System.out.println("\nI/O ERROR --> " + e);
+            } binaryFileName = fileName;
+            isIndexOfFile = false;
+            readKnownBinaryFileToArray();
+        } finally {
+            unlockExclusively(stamp);
+        }
     }
 
     /** Method Name: writeToFile
      * @Author Abhay Manoj
      * @Date October 7, 2023
-     * @Modified October 10, 2023
-     * @Description Writes content of character array to binary file
+     * @Modified October 17, 2026
+     * @Description Writes content of character array to binary file, the file is rewritten in the default record format so records held back by a batch are dropped instead of written twice
      * @Parameters N/A
      * @Returns N/A, Data Type: Void
-     * Dependencies: RandomAccessFile
-     * Throws/Exceptions: IOException
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
      */
     public void writeToFile() {
+        long stamp = lockExclusively(); // the stamp of the lock, 0 if this thread already held it
+        long start = metrics.start(Operation.SAVE); // when the save started
         try {
-            RandomAccessFile randomAccessor = new RandomAccessFile(binaryFileName, "rw"); // accesses binary file
-            randomAccessor.setLength(characters.length * Character.getRecordLength());
-            for (int i = 0; i < characters.length; i++) characters[i].writeRecord(randomAccessor, i);
-            randomAccessor.close();
+            rewriteFile(binaryFileName, false);
+        } finally {
+            metrics.stop(Operation.SAVE, start);
+            unlockExclusively(stamp);
+        }
+    }
+
+    /** Method Name: rewriteFile
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Writes content of character array to a binary file, which is used from then on. The characters are written to a separate file which then replaces the binary file in one atomic rename, so a crash leaves either the old file or the new one. Until the rename the current binary file stays open, since a lazy list still reads its characters from it. A compacted file is written from the slots that are in use, and the list and indexes are only compacted once the rename is done, so a save that fails leaves the list matching the old file. A legacy character that the default format can not hold leaves the old file in place
+     * @Parameters fileName - the name of the binary file being written, isCompacted - whether deleted slots are removed
+     * @Returns N/A, Data Type: Void
+     * Dependencies: BulkRecordFile, CharacterStore, Files
+     * Throws/Exceptions: IOException, IllegalArgumentException
+     */
+
+    private void rewriteFile(String fileName, boolean isCompacted) {
+        BitSet heldBackRecords = (BitSet) dirtyRecords.clone(); // the records held back by a batch, held back again if the save fails
+        dirtyRecords.clear();
+        numberOfDirtyRecords = 0;
+        Path binaryFile = Paths.get(fileName).toAbsolutePath(); // the binary file being replaced
+        Path saveFile = binaryFile.resolveSibling(binaryFile.getFileName() + ".save"); // the file records are written to until the save is done
+        try {
+            closeStore();
+            Files.deleteIfExists(saveFile);
+            if (bulkMode) BulkRecordFile.writeAll(saveFile.toString(), characters, isCompacted);
+            else {
+                try (CharacterStore store = openStore(saveFile.toString())) { // accesses the new binary file
+                    store.setNumberOfRecords(isCompacted ? characters.size() : characters.getNumberOfSlots());
+                    for (int slot = 0, numberOfRecord = 0; slot < characters.getNumberOfSlots(); slot++) { // numberOfRecord - the record the slot is written to
+                        if (!characters.isFree(slot)) store.writeRecord(numberOfRecord++, characters.get(slot));
+                        else if (!isCompacted) store.writeTombstone(numberOfRecord++);
+                    } store.flush();
+                }
+            } closeStore();
+            Files.deleteIfExists(WriteAheadLog.getLogFile(fileName).toPath());
+            Files.move(saveFile, binaryFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
         } catch (IOException e) {
             System.out.println("I/O ERROR --> " + e);
-        }
+            holdBackRecords(heldBackRecords);
+            return;
+        } catch (IllegalArgumentException e) {
+            System.out.println("\nINVALID CHARACTER ERROR, THE FILE WAS NOT SAVED --> " + e.getMessage());
+            saveFile.toFile().delete();
+            holdBackRecords(heldBackRecords);
+            return;
+        } binaryFileName = fileName;
+        if (isCompacted) compactList();
+        characters.markSaved();
+        isIndexOfFile = true;
+        persistNameIndexToFile();
     }
 
     /** Method Name: userWriteToFile
      * @Author Abhay Manoj
      * @Date October 7, 2023
-     * @Modified October 10, 2023
+     * @Modified October 17, 2026
      * @Description Writes content of character array to binary file of user's choice
      * @Parameters input - used to take user input
      * @Returns N/A, Data Type: Void
@@ -132,80 +643,340 @@ public class CharacterUtils {
 
     public void userWriteToFile(Scanner input) {
         System.out.print("\nEnter EXACT name of file (ex. characterStats.txt, myCharacters.bin): ");
-        binaryFileName = input.nextLine();
-        writeToFile();
+        writeToFile(input.nextLine());
         System.out.println("The file has been written to.");
     }
 
+    /** Method Name: writeToFile
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Writes the character array to a binary file, which is used from then on. Saving to the current file only writes the changed records when nothing needs to be compacted, otherwise the whole file is rewritten
+     * @Parameters fileName - the name of the binary file
+     * @Returns N/A, Data Type: Void
+     * Dependencies: CharacterStore, RecordFormat
+     * Throws/Exceptions: IOException
+     */
+
+    public void writeToFile(String fileName) {
+        long stamp = lockExclusively(); // the stamp of the lock, 0 if this thread already held it
+        long start = metrics.start(Operation.SAVE); // when the save started
+        try {
+            try {
+                if (fileName.equals(binaryFileName) && isIndexOfFile && characters.getNumberOfFreeSlots() == 0 && getStore().getFormat() == RecordFormat.getDefault() && getStore().getNumberOfRecords() + numberOfDirtyRecords >= characters.getNumberOfSlots()) {
+                    flushDirtyRecords();
+                    return;
+                } close();
+            } catch (IOException e) {
+                System.out.println("\nI/O ERROR --> " + e);
+            } rewriteFile(fileName, true);
+        } finally {
+            metrics.stop(Operation.SAVE, start);
+            unlockExclusively(stamp);
+        }
+    }
+
+    /** Method Name: loadNameIndex
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Fills the name index from the index file of the binary file if it is up to date, otherwise from the character array
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: NameIndex
+     * Throws/Exceptions: N/A
+     */
+
+    private void loadNameIndex() {
+        NameIndex savedIndex = persistNameIndex ? NameIndex.load(getNameIndexFile(), new File(binaryFileName)) : null; // the index saved by an earlier session
+        if (savedIndex != null) nameIndex = savedIndex;
+        else {
+            nameIndex.rebuild(characters);
+            persistNameIndexToFile();
+        }
+    }
+
+    /** Method Name: persistNameIndexToFile
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Saves the name index next to the binary file so the next session can skip rebuilding it, an index that was never matched with the file is not saved
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: NameIndex
+     * Throws/Exceptions: IOException
+     */
+
+    public void persistNameIndexToFile() {
+        long stamp = lockShared(); // the stamp of the lock, 0 if this thread already held it
+        try {
+            if (!persistNameIndex || !isIndexOfFile || !new File(binaryFileName).isFile()) return;
+            try {
+                nameIndex.save(getNameIndexFile(), new File(binaryFileName));
+            } catch (IOException e) {
+                System.out.println("\nI/O ERROR --> " + e);
+            }
+        } finally {
+            unlockShared(stamp);
+        }
+    }
+
+    private File getNameIndexFile() {
+        return new File(binaryFileName + ".idx");
+    }
+
     /** Method Name: getCharacterIndex
      * @Author Abhay Manoj
      * @Date October 10, 2023
-     * @Modified October 10, 2023
-     * @Description Gets index of a character in the array
+     * @Modified October 17, 2026
+     * @Description Gets index of a character in the array, a name that only differs in case is accepted if just one character has it, otherwise the closest names are suggested
      * @Parameters input - used to take user input
      * @Returns The index of the character, Data Type: Integer
-     * Dependencies: Scanner
+     * Dependencies: Scanner, NameIndex, NameSearchIndex
      * Throws/Exceptions: N/A
      */
 
     private int getCharacterIndex(Scanner input) {
         System.out.print("\nEnter EXACT name of character (ex. Magnus Carlsen): ");
-        String characterName = input.nextLine(); // name of the character
-        for (int i = 0; i < characters.length; i++) {
-            if (characters[i].getName().equals(characterName)) {
-                return i; }
-        } System.out.println("\nCharacter was not found. Please check your spelling.");
-        return -1;
+        String name = input.nextLine(); // the name that was entered
+        int characterIndex = findCharacterIndex(name); // index of the character with that name
+        if (characterIndex == -1) System.out.println("\n" + getNotFoundMessage(name));
+        return characterIndex;
+    }
+
+    /** Method Name: findCharacterIndex
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets index of a character by name, a name that only differs in case is accepted if just one character has it. An exact name is looked up without taking the lock, the lookup is only repeated under the lock if the list changed meanwhile
+     * @Parameters name - the name of the character
+     * @Returns The index of the character, or -1 if it was not found, Data Type: Integer
+     * Dependencies: StampedLock, NameIndex, NameSearchIndex
+     * Throws/Exceptions: N/A
+     */
+
+    public int findCharacterIndex(String name) {
+        long start = metrics.start(Operation.LOOKUP); // when the lookup started
+        long stamp = lock.tryOptimisticRead(); // the stamp of the optimistic read, 0 if the list is being changed
+        int characterIndex = nameIndex.get(name); // index of the character with that name
+        if (characterIndex != -1 && lock.validate(stamp)) {
+            metrics.stop(Operation.LOOKUP, start);
+            return characterIndex;
+        } stamp = lockShared();
+        try {
+            return lookUpCharacterIndex(name);
+        } finally {
+            metrics.stop(Operation.LOOKUP, start);
+            unlockShared(stamp);
+        }
+    }
+
+    /** Method Name: lookUpCharacterIndex
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets index of a character by name while the lock is held, a name that only differs in case is accepted if just one character has it
+     * @Parameters name - the name of the character
+     * @Returns The index of the character, or -1 if it was not found, Data Type: Integer
+     * Dependencies: NameIndex, NameSearchIndex
+     * Throws/Exceptions: N/A
+     */
+
+    private int lookUpCharacterIndex(String name) {
+        int characterIndex = nameIndex.get(name); // index of the character with that name
+        if (characterIndex != -1) return characterIndex;
+        int[] sameNameIgnoringCase; // the characters with the name in a different case
+        synchronized (searchIndexLock) {
+            buildSearchIndexes();
+            sameNameIgnoringCase = nameSearchIndex.findIgnoringCase(name);
+        } return sameNameIgnoringCase.length == 1 ? sameNameIgnoringCase[0] : -1;
+    }
+
+    /** Method Name: getNotFoundMessage
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Makes the message shown when a name was not found, listing the closest names if there are any
+     * @Parameters name - the name that was not found
+     * @Returns The message, Data Type: String
+     * Dependencies: NameSearchIndex
+     * Throws/Exceptions: N/A
+     */
+
+    public String getNotFoundMessage(String name) {
+        long stamp = lockShared(); // the stamp of the lock, 0 if this thread already held it
+        try {
+            final int MAX_SUGGESTIONS = 5; // the most names suggested when a name is not found
+            int[] suggestions; // the characters the user may have meant
+            synchronized (searchIndexLock) {
+                buildSearchIndexes();
+                suggestions = nameSearchIndex.suggest(name, MAX_SUGGESTIONS);
+            }
+            if (suggestions.length == 0) return "Character was not found. Please check your spelling.";
+            StringBuilder suggestedNames = new StringBuilder(); // the suggested names separated by commas
+            for (int slot : suggestions) suggestedNames.append(suggestedNames.length() == 0 ? "" : ", ").append(characters.get(slot).getName());
+            return "Character was not found. Did you mean: " + suggestedNames + "?";
+        } finally {
+            unlockShared(stamp);
+        }
     }
 
     /** Method Name: deleteCharacterFromList
      * @Author Abhay Manoj
      * @Date October 7, 2023
-     * @Modified October 10, 2023
-     * @Description Deletes a character
+     * @Modified October 17, 2026
+     * @Description Deletes a character, only the record of that character is rewritten as a tombstone
      * @Parameters input - used to take user input
      * @Returns N/A, Data Type: Void
      * Dependencies: Scanner
-     * Throws/Exceptions: N/A
+     * Throws/Exceptions: IOException
      */
 
-    public void deleteCharacterFromList(Scanner input) {
+    public void deleteCharacterFromList(Scanner input) throws IOException {
         int characterIndex = getCharacterIndex(input); // index of the character
         if (characterIndex != -1) {
-            Character[] newCharacters = new Character[characters.length - 1]; // new list that is one element smaller than before
-            int newArrayPointer = 0; // pointer used to access elements in new characters array
-            for (int i = 0; i < characters.length; i++) {
-                if (i == characterIndex) continue;
-                newCharacters[newArrayPointer] = characters[i];
-                newArrayPointer++;
-            } characters = newCharacters;
-            writeToFile();
-            readKnownBinaryFileToArray();
+            deleteCharacter(characterIndex);
             System.out.println("\nCharacter has been deleted.");
         }
     }
 
+    /** Method Name: deleteCharacter
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Deletes the character at an index, compacting the list once enough slots are free
+     * @Parameters characterIndex - the index of the character
+     * @Returns N/A, Data Type: Void
+     * Dependencies: NameIndex, SecondaryIndex, NameSearchIndex
+     * Throws/Exceptions: IOException
+     */
+
+    public void deleteCharacter(int characterIndex) throws IOException {
+        long stamp = lockExclusively(); // the stamp of the lock, 0 if this thread already held it
+        long start = metrics.start(Operation.DELETE); // when the delete started
+        try {
+            nameIndex.remove(characters.remove(characterIndex).getName(), characterIndex);
+            if (areSearchIndexesBuilt) {
+                secondaryIndex.remove(characterIndex);
+                nameSearchIndex.remove(characterIndex);
+            }
+            writeTombstoneRecord(characterIndex);
+            if (characters.getNumberOfFreeSlots() >= MIN_FREE_SLOTS_TO_COMPACT && characters.getNumberOfFreeSlots() > characters.size()) compact();
+        } finally {
+            metrics.stop(Operation.DELETE, start);
+            unlockExclusively(stamp);
+        }
+    }
+
+    /** Method Name: compact
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Removes deleted slots from the list and rewrites the binary file without their tombstones
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: Roster, NameIndex, SecondaryIndex, NameSearchIndex
+     * Throws/Exceptions: N/A
+     */
+
+    public void compact() {
+        long stamp = lockExclusively(); // the stamp of the lock, 0 if this thread already held it
+        try {
+            rewriteFile(binaryFileName, true);
+        } finally {
+            unlockExclusively(stamp);
+        }
+    }
+
+    /** Method Name: compactList
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Removes deleted slots from the list and rebuilds the indexes, once the binary file has been replaced by a compacted one. A lazy list is pointed at the new file instead, since its records are already in their compacted slots there
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: Roster, LazyRoster, NameIndex, SecondaryIndex, NameSearchIndex
+     * Throws/Exceptions: N/A
+     */
+
+    private void compactList() {
+        if (lazyLoad) {
+            int numberOfRecords = characters.size(); // the number of records in the compacted file
+            ((LazyRoster) characters).open(numberOfRecords, new BitSet());
+        } else characters.compact();
+        nameIndex.rebuild(characters);
+        areSearchIndexesBuilt = false;
+        if (!lazyLoad) buildSearchIndexes();
+    }
+
+    /** Method Name: holdBackRecords
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Holds back records again after a save that would have written them failed, so they are still written to the old binary file later
+     * @Parameters heldBackRecords - the records that were held back
+     * @Returns N/A, Data Type: Void
+     * Dependencies: BitSet
+     * Throws/Exceptions: N/A
+     */
+
+    private void holdBackRecords(BitSet heldBackRecords) {
+        synchronized (dirtyRecords) {
+            dirtyRecords.or(heldBackRecords);
+            numberOfDirtyRecords = dirtyRecords.cardinality();
+        }
+    }
+
+    /** Method Name: writeTombstoneRecord
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Marks a single record of the binary file as deleted, during a batch or in write-back mode the record is only marked as changed
+     * @Parameters numberOfRecord - the index of the deleted character
+     * @Returns N/A, Data Type: Void
+     * Dependencies: CharacterStore
+     * Throws/Exceptions: IOException
+     */
+
+    private void writeTombstoneRecord(int numberOfRecord) throws IOException {
+        if (isBatching || writeBack) {
+            markDirty(numberOfRecord);
+            return;
+        } getStore().writeTombstone(numberOfRecord);
+        recordWritten(1);
+    }
+
     /** Method Name: writeCharacterRecord
      * @Author Abhay Manoj
      * @Date October 10, 2023
-     * @Modified October 10, 2023
-     * @Description Writes a single character to the binary file
-     * @Parameters numberOfRecord - the index of the character
+     * @Modified October 17, 2026
+     * @Description Stores a changed character back into the list and the search indexes and writes it to the binary file, during a batch or in write-back mode the record is only marked as changed
+     * @Parameters numberOfRecord - the index of the character, character - the changed character
      * @Returns N/A, Data Type: Void
-     * Dependencies: RandomAccessFile
+     * Dependencies: CharacterStore, SecondaryIndex, NameSearchIndex
      * Throws/Exceptions: IOException
      */
 
-    private void writeCharacterRecord(int numberOfRecord) throws IOException {
-        RandomAccessFile randomAccessor = new RandomAccessFile(binaryFileName,"rw"); // used to write record to file
-        randomAccessor.seek(numberOfRecord * Character.getRecordLength());
-        characters[numberOfRecord].writeRecord(randomAccessor, numberOfRecord);
+    private void writeCharacterRecord(int numberOfRecord, Character character) throws IOException {
+        characters.set(numberOfRecord, character);
+        synchronized (searchIndexLock) {
+            if (areSearchIndexesBuilt) {
+                secondaryIndex.update(numberOfRecord, character);
+                nameSearchIndex.update(numberOfRecord, character.getName());
+            }
+        }
+        if (isBatching || writeBack) {
+            markDirty(numberOfRecord);
+            return;
+        } getStore().writeRecord(numberOfRecord, character);
+        characters.markWritten(numberOfRecord);
+        recordWritten(1);
     }
 
     /** Method Name: addNewCharacterToList
      * @Author Abhay Manoj
      * @Date October 7, 2023
-     * @Modified October 10, 2023
+     * @Modified October 17, 2026
      * @Description Adds new character to list and file
      * @Parameters input - used to take user input
      * @Returns N/A, Data Type: Void
@@ -214,28 +985,185 @@ public class CharacterUtils {
      */
 
     public void addNewCharacter(Scanner input) throws IOException {
-        int newCharacterIndex = characters.length; // the index of the new character that will be added
-        Character[] newCharacters = new Character[characters.length + 1]; // new list that is one element bigger than before
-        System.arraycopy(characters, 0, newCharacters, 0, characters.length);
-        newCharacters[newCharacterIndex] = new Character();
+        Character newCharacter = new Character(); // the character that will be added
         System.out.print("\nEnter the EXACT name of your character (ex. Magnus Carlsen): ");
-        newCharacters[newCharacterIndex].setName(input.nextLine());
-        System.out.print("\nEnter the race of your character (Human, Halfling, Elf, Orc, Dwarf, Gnome): ");
-        newCharacters[newCharacterIndex].setRace(input.nextLine());
-        System.out.print("\nEnter the class of your character (Warrior, Mage, Rogue, Cleric, Bard, Ranger): ");
-        newCharacters[newCharacterIndex].setClassOfCharacter(input.nextLine());
-        newCharacters[newCharacterIndex].generateStats();
-        newCharacters[newCharacterIndex].setLevel(1);
-        characters = newCharacters;
-        writeCharacterRecord(newCharacterIndex);
+        newCharacter.setName(input.nextLine());
+        newCharacter.setRace(readRace(input, "\nEnter the race of your character (Human, Halfling, Elf, Orc, Dwarf, Gnome): "));
+        newCharacter.setClassOfCharacter(readClass(input, "\nEnter the class of your character (Warrior, Mage, Rogue, Cleric, Bard, Ranger): "));
+        newCharacter.generateStats();
+        newCharacter.setLevel(1);
+        addCharacter(newCharacter);
         System.out.println("\nCharacter has been added with randomly generated stats.");
-        newCharacters[newCharacterIndex].display();
+        newCharacter.display();
+    }
+
+    /** Method Name: addCharacter
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Adds a character to the list and file, reusing the slot of a deleted character if there is one
+     * @Parameters character - the character being added
+     * @Returns The index the character was added at, Data Type: Integer
+     * Dependencies: NameIndex
+     * Throws/Exceptions: IOException
+     */
+
+    public int addCharacter(Character character) throws IOException {
+        long stamp = lockExclusively(); // the stamp of the lock, 0 if this thread already held it
+        long start = metrics.start(Operation.ADD); // when the add started
+        try {
+            int characterIndex = characters.add(character); // the index the character was added at
+            nameIndex.put(character.getName(), characterIndex);
+            writeCharacterRecord(characterIndex, character);
+            return characterIndex;
+        } finally {
+            metrics.stop(Operation.ADD, start);
+            unlockExclusively(stamp);
+        }
+    }
+
+    /** Method Name: updateCharacter
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Stores a changed character back at its index, its name must not have changed (see renameCharacter). The list keeps the character, so it must not be changed afterwards. Edits of records with different record locks run at the same time
+     * @Parameters characterIndex - the index of the character, character - the changed character
+     * @Returns N/A, Data Type: Void
+     * Dependencies: StampedLock
+     * Throws/Exceptions: IOException
+     */
+
+    public void updateCharacter(int characterIndex, Character character) throws IOException {
+        long stamp = lockShared(); // the stamp of the lock, 0 if this thread already held it
+        try {
+            synchronized (getRecordLock(characterIndex)) {
+                writeCharacterRecord(characterIndex, character);
+            }
+        } finally {
+            unlockShared(stamp);
+        }
+    }
+
+    /** Method Name: renameCharacter
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Changes the name of the character at an index
+     * @Parameters characterIndex - the index of the character, name - the new name
+     * @Returns N/A, Data Type: Void
+     * Dependencies: NameIndex
+     * Throws/Exceptions: IOException
+     */
+
+    public void renameCharacter(int characterIndex, String name) throws IOException {
+        long stamp = lockExclusively(); // the stamp of the lock, 0 if this thread already held it
+        try {
+            Character character = new Character(characters.get(characterIndex)); // the character being renamed, a copy since threads reading the old one may still hold it
+            nameIndex.remove(character.getName(), characterIndex);
+            character.setName(name);
+            nameIndex.put(name, characterIndex);
+            writeCharacterRecord(characterIndex, character);
+        } finally {
+            unlockExclusively(stamp);
+        }
+    }
+
+    /** Method Name: getCharacter
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets a copy of a character by name, found and copied under one lock so a character added in the slot of a deleted one is never returned in its place
+     * @Parameters name - the name of the character
+     * @Returns A copy of the character, or null if no character has that name, Data Type: Character
+     * Dependencies: StampedLock, NameIndex
+     * Throws/Exceptions: N/A
+     */
+
+    public Character getCharacter(String name) {
+        long stamp = lockShared(); // the stamp of the lock, 0 if this thread already held it
+        long start = metrics.start(Operation.LOOKUP); // when the lookup started
+        try {
+            int characterIndex = lookUpCharacterIndex(name); // index of the character
+            return characterIndex == -1 ? null : copyCharacter(characterIndex);
+        } finally {
+            metrics.stop(Operation.LOOKUP, start);
+            unlockShared(stamp);
+        }
+    }
+
+    /** Method Name: editCharacter
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Finds a character by name and applies an edit to a copy of it, which then replaces it. The whole edit holds the record lock, so edits of the same character from different threads can not undo each other
+     * @Parameters name - the name of the character, edit - the change made to the character, it must not change the name
+     * @Returns The edited character, or null if no character has that name, Data Type: Character
+     * Dependencies: StampedLock, Consumer
+     * Throws/Exceptions: IOException, IllegalArgumentException from the edit
+     */
+
+    public Character editCharacter(String name, Consumer<Character> edit) throws IOException {
+        long stamp = lockShared(); // the stamp of the lock, 0 if this thread already held it
+        try {
+            int characterIndex = lookUpCharacterIndex(name); // index of the character
+            if (characterIndex == -1) return null;
+            synchronized (getRecordLock(characterIndex)) {
+                Character character = new Character(characters.get(characterIndex)); // the character being changed
+                edit.accept(character);
+                writeCharacterRecord(characterIndex, character);
+                return new Character(character);
+            }
+        } finally {
+            unlockShared(stamp);
+        }
+    }
+
+    /** Method Name: addCharacterIfAbsent
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Adds a character unless one with the same name already exists, checked and added under one lock so two threads can not both add the name
+     * @Parameters character - the character being added
+     * @Returns The index the character was added at, or -1 if the name is taken, Data Type: Integer
+     * Dependencies: NameIndex
+     * Throws/Exceptions: IOException
+     */
+
+    public int addCharacterIfAbsent(Character character) throws IOException {
+        long stamp = lockExclusively(); // the stamp of the lock, 0 if this thread already held it
+        try {
+            return nameIndex.get(character.getName()) != -1 ? -1 : addCharacter(character);
+        } finally {
+            unlockExclusively(stamp);
+        }
+    }
+
+    /** Method Name: deleteCharacter
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Deletes a character by name, found and deleted under one lock so the index can not move in between
+     * @Parameters name - the name of the character
+     * @Returns Whether a character was deleted, Data Type: Boolean
+     * Dependencies: NameIndex
+     * Throws/Exceptions: IOException
+     */
+
+    public boolean deleteCharacter(String name) throws IOException {
+        long stamp = lockExclusively(); // the stamp of the lock, 0 if this thread already held it
+        try {
+            int characterIndex = lookUpCharacterIndex(name); // index of the character
+            if (characterIndex != -1) deleteCharacter(characterIndex);
+            return characterIndex != -1;
+        } finally {
+            unlockExclusively(stamp);
+        }
     }
 
     /** Method Name: changeRace
      * @Author Abhay Manoj
      * @Date October 10, 2023
-     * @Modified October 10, 2023
+     * @Modified October 17, 2026
      * @Description Changes race of character
      * @Parameters input - used to take user input
      * @Returns N/A, Data Type: Void
@@ -246,16 +1174,16 @@ public class CharacterUtils {
     public void changeRace(Scanner input) throws IOException {
         int characterIndex = getCharacterIndex(input); // index of the character
         if (characterIndex != -1) {
-            System.out.print("\nEnter desired race (Human, Halfling, Elf, Orc, Dwarf, Gnome): ");
-            characters[characterIndex].changeRace(input.nextLine());
-            writeCharacterRecord(characterIndex);
+            Character character = getCharacter(characterIndex); // the character being changed
+            character.changeRace(readRace(input, "\nEnter desired race (Human, Halfling, Elf, Orc, Dwarf, Gnome): "));
+            updateCharacter(characterIndex, character);
         }
     }
 
     /** Method Name: changeClass
      * @Author Abhay Manoj
      * @Date October 10, 2023
-     * @Modified October 10, 2023
+     * @Modified October 17, 2026
      * @Description Changes race of character
      * @Parameters input - used to take user input
      * @Returns N/A, Data Type: Void
@@ -266,16 +1194,58 @@ public class CharacterUtils {
     public void changeClass(Scanner input) throws IOException {
         int characterIndex = getCharacterIndex(input); // index of the character
         if (characterIndex != -1) {
-            System.out.print("\nEnter desired class (Warrior, Mage, Rogue, Cleric, Bard, Ranger): ");
-            characters[characterIndex].changeClass(input.nextLine());
-            writeCharacterRecord(characterIndex);
+            Character character = getCharacter(characterIndex); // the character being changed
+            character.changeClass(readClass(input, "\nEnter desired class (Warrior, Mage, Rogue, Cleric, Bard, Ranger): "));
+            updateCharacter(characterIndex, character);
         }
     }
 
+    /** Method Name: readRace
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Asks the user for a race until they enter a valid one
+     * @Parameters input - used to take user input, prompt - the question asked
+     * @Returns The race entered, Data Type: Race
+     * Dependencies: Scanner
+     * Throws/Exceptions: N/A
+     */
+
+    private static Race readRace(Scanner input, String prompt) {
+        Race race; // the race entered
+        do {
+            System.out.print(prompt);
+            race = Race.fromName(input.nextLine());
+            if (race == null) System.out.println("\nThat is not a valid race, try again.");
+        } while (race == null);
+        return race;
+    }
+
+    /** Method Name: readClass
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Asks the user for a class until they enter a valid one
+     * @Parameters input - used to take user input, prompt - the question asked
+     * @Returns The class entered, Data Type: CharacterClass
+     * Dependencies: Scanner
+     * Throws/Exceptions: N/A
+     */
+
+    private static CharacterClass readClass(Scanner input, String prompt) {
+        CharacterClass classOfCharacter; // the class entered
+        do {
+            System.out.print(prompt);
+            classOfCharacter = CharacterClass.fromName(input.nextLine());
+            if (classOfCharacter == null) System.out.println("\nThat is not a valid class, try again.");
+        } while (classOfCharacter == null);
+        return classOfCharacter;
+    }
+
     /** Method Name: updateLevel
      * @Author Abhay Manoj
      * @Date October 10, 2023
-     * @Modified October 10, 2023
+     * @Modified October 17, 2026
      * @Description updates level of a character
      * @Parameters input - used to take user input
      * @Returns N/A, Data Type: Void
@@ -286,17 +1256,22 @@ public class CharacterUtils {
     public void updateLevel(Scanner input) throws IOException {
         int characterIndex = getCharacterIndex(input); // index of the character
         if (characterIndex != -1) {
+            Character character = getCharacter(characterIndex); // the character being changed
             System.out.print("\nEnter new level of character: ");
-            int numberOfLevels = Integer.parseInt(input.nextLine()) - characters[characterIndex].getLevel(); // number of new levels to be added to character
-            characters[characterIndex].levelUp(numberOfLevels);
-            writeCharacterRecord(characterIndex);
+            try {
+                int numberOfLevels = Integer.parseInt(input.nextLine()) - character.getLevel(); // number of new levels to be added to character
+                character.levelUp(numberOfLevels);
+            } catch (IllegalArgumentException e) {
+                System.out.println("\nThe level was not changed, " + e.getMessage());
+                return;
+            } updateCharacter(characterIndex, character);
         }
     }
 
     /** Method Name: updateStats
      * @Author Abhay Manoj
      * @Date October 7, 2023
-     * @Modified October 10, 2023
+     * @Modified October 17, 2026
      * @Description Submenu to update stats of a character
      * @Parameters input - used to take user input
      * @Returns N/A, Data Type: Void
@@ -307,54 +1282,57 @@ public class CharacterUtils {
     public void updateStats(Scanner input) throws IOException {
         int characterIndex = getCharacterIndex(input); // index of the character
         if (characterIndex != -1) {
+            Character character = getCharacter(characterIndex); // the character being changed
+            String newName = null; // the new name of the character, if it is renamed
             do {
                 System.out.println("\nWhat would you like to modify?\n1. Name\n2. Race\n3. Class\n4. Level \n5. HitPoints \n6. Strength\n7. Constitution\n8. Intelligence\n9. Wisdom\n10. Dexterity\n11. Charisma");
-                switch (Integer.parseInt(input.nextLine())) {
-                    case 1 -> {
-                        System.out.print("\nEnter their name: ");
-                        characters[characterIndex].setName(input.nextLine());
-                    } case 2 -> {
-                        System.out.print("\nEnter their race: ");
-                        characters[characterIndex].changeRace(input.nextLine());
-                    } case 3 -> {
-                        System.out.print("\nEnter their class: ");
-                        characters[characterIndex].changeClass(input.nextLine());
-                    } case 4 -> {
-                        System.out.print("\nEnter their level: ");
-                        characters[characterIndex].setLevel(Integer.parseInt(input.nextLine()));
-                    } case 5 -> {
-                        System.out.print("\nEnter their HitPoints: ");
-                        characters[characterIndex].setHitPoints(Integer.parseInt(input.nextLine()));
-                    } case 6 -> {
-                        System.out.print("\nEnter their strength: ");
-                        characters[characterIndex].setStrength(Integer.parseInt(input.nextLine()));
-                    } case 7 -> {
-                        System.out.print("\nEnter their constitution: ");
-                        characters[characterIndex].setConstitution(Integer.parseInt(input.nextLine()));
-                    } case 8 -> {
-                        System.out.print("\nEnter their intelligence: ");
-                        characters[characterIndex].setIntelligence(Integer.parseInt(input.nextLine()));
-                    } case 9 -> {
-                        System.out.print("\nEnter their wisdom: ");
-                        characters[characterIndex].setWisdom(Integer.parseInt(input.nextLine()));
-                    } case 10 -> {
-                        System.out.print("\nEnter their dexterity: ");
-                        characters[characterIndex].setDexterity(Integer.parseInt(input.nextLine()));
-                    } case 11 -> {
-                        System.out.print("\nEnter their charisma: ");
-                        characters[characterIndex].setCharisma(Integer.parseInt(input.nextLine()));
-                    } default -> System.out.println("\nNot a valid option, try again.");
+                try {
+                    switch (Integer.parseInt(input.nextLine())) {
+                        case 1 -> {
+                            System.out.print("\nEnter their name: ");
+                            newName = input.nextLine();
+                        } case 2 -> character.changeRace(readRace(input, "\nEnter their race: "));
+                        case 3 -> character.changeClass(readClass(input, "\nEnter their class: "));
+                        case 4 -> {
+                            System.out.print("\nEnter their level: ");
+                            character.setLevel(Integer.parseInt(input.nextLine()));
+                        } case 5 -> {
+                            System.out.print("\nEnter their HitPoints: ");
+                            character.setHitPoints(Integer.parseInt(input.nextLine()));
+                        } case 6 -> {
+                            System.out.print("\nEnter their strength: ");
+                            character.setStrength(Integer.parseInt(input.nextLine()));
+                        } case 7 -> {
+                            System.out.print("\nEnter their constitution: ");
+                            character.setConstitution(Integer.parseInt(input.nextLine()));
+                        } case 8 -> {
+                            System.out.print("\nEnter their intelligence: ");
+                            character.setIntelligence(Integer.parseInt(input.nextLine()));
+                        } case 9 -> {
+                            System.out.print("\nEnter their wisdom: ");
+                            character.setWisdom(Integer.parseInt(input.nextLine()));
+                        } case 10 -> {
+                            System.out.print("\nEnter their dexterity: ");
+                            character.setDexterity(Integer.parseInt(input.nextLine()));
+                        } case 11 -> {
+                            System.out.print("\nEnter their charisma: ");
+                            character.setCharisma(Integer.parseInt(input.nextLine()));
+                        } default -> System.out.println("\nNot a valid option, try again.");
+                    }
+                } catch (IllegalArgumentException e) {
+                    System.out.println("\nThat was not changed, " + e.getMessage());
                 } System.out.print("Would you like to continue editing this character? Enter 'y' or 'n': ");
             } while (input.nextLine().charAt(0) != 'n');
-            writeCharacterRecord(characterIndex);
-            characters[characterIndex].display();
+            updateCharacter(characterIndex, character);
+            if (newName != null) renameCharacter(characterIndex, newName);
+            getCharacter(characterIndex).display();
         }
     }
 
     /** Method Name: printCharacter
      * @Author Abhay Manoj
      * @Date October 7, 2023
-     * @Modified October 10, 2023
+     * @Modified October 17, 2026
      * @Description Prints out a single character and their attributes
      * @Parameters input - used to take user input
      * @Returns N/A, Data Type: Void
@@ -364,13 +1342,13 @@ public class CharacterUtils {
 
     public void printCharacter(Scanner input) {
         int characterIndex = getCharacterIndex(input); // index of the character
-        if (characterIndex != -1) getCharacterList()[characterIndex].display();
+        if (characterIndex != -1) getCharacter(characterIndex).display();
     }
 
     /** Method Name: printCharacter
      * @Author Abhay Manoj
      * @Date October 7, 2023
-     * @Modified October 10, 2023
+     * @Modified October 17, 2026
      * @Description Prints out all characters and attributes
      * @Parameters N/A
      * @Returns N/A, Data Type: Void
@@ -379,12 +1357,282 @@ public class CharacterUtils {
      */
 
     public void printAllCharacters() {
+        long stamp = lockShared(); // the stamp of the lock, 0 if this thread already held it
+        try {
+            System.out.println();
+            if (characters.size() == 0) System.out.println("\nThere are no characters currently available. Please add some characters.");
+            else for (int i = 0; i < characters.getNumberOfSlots(); i++) if (!characters.isFree(i)) characters.get(i).display();
+        } finally {
+            unlockShared(stamp);
+        }
+    }
+
+    /** Method Name: printStatSummary
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Prints the lowest, highest and average value of every stat over all characters, followed by the counters of the record cache in lazy mode
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: Roster, Stat, RecordCache
+     * Throws/Exceptions: N/A
+     */
+
+    public void printStatSummary() {
+        long stamp = lockShared(); // the stamp of the lock, 0 if this thread already held it
+        try {
+            System.out.println();
+            if (characters.size() == 0) {
+                System.out.println("\nThere are no characters currently available. Please add some characters.");
+                return;
+            } for (Stat stat : Stat.values()) System.out.printf("%s: Lowest: %d, Highest: %d, Average: %.2f\n", stat, characters.min(stat), characters.max(stat), (double) characters.sum(stat) / characters.size());
+            if (lazyLoad) System.out.println("Record cache: " + getRecordCache());
+        } finally {
+            unlockShared(stamp);
+        }
+    }
+
+    /** Method Name: printOperationStatistics
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Prints how many loads, imports, saves, lookups, adds, deletes, record reads, record writes and flushes were made and how long they took
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: OperationMetrics
+     * Throws/Exceptions: N/A
+     */
+
+    public void printOperationStatistics() {
+        System.out.println("\n" + metrics.getSummary());
+    }
+
+    /** Method Name: query
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Finds the characters that match a query, in the order the query asks for. Copies are returned, read under their record locks, so a caller never sees a character while another thread edits it
+     * @Parameters query - the conditions, order and limit of the search
+     * @Returns The matching characters, Data Type: Character[]
+     * Dependencies: CharacterQuery, SecondaryIndex
+     * Throws/Exceptions: N/A
+     */
+
+    public Character[] query(CharacterQuery query) {
+        long stamp = lockShared(); // the stamp of the lock, 0 if this thread already held it
+        try {
+            int[] slots; // the indexes of the matching characters
+            synchronized (searchIndexLock) {
+                buildSearchIndexes();
+                slots = query.execute(characters, secondaryIndex);
+            }
+            Character[] matches = new Character[slots.length]; // the matching characters
+            for (int i = 0; i < slots.length; i++) matches[i] = copyCharacter(slots[i]);
+            return matches;
+        } finally {
+            unlockShared(stamp);
+        }
+    }
+
+    /** Method Name: userQuery
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Asks the user for a race, class, level range, sort order and limit, then prints the characters that match
+     * @Parameters input - used to take user input
+     * @Returns N/A, Data Type: Void
+     * Dependencies: Scanner, CharacterQuery
+     * Throws/Exceptions: NumberFormatException
+     */
+
+    public void userQuery(Scanner input) {
+        CharacterQuery query = new CharacterQuery(); // the query being built from the answers
+        System.out.print("\nEnter a race to search for (Human, Halfling, Elf, Orc, Dwarf, Gnome), or leave blank for any: ");
+        String answer = input.nextLine(); // the answer to the current question
+        if (!answer.isEmpty()) {
+            if (Race.fromName(answer) == null) {
+                System.out.println("\nThat is not a valid race.");
+                return;
+            } query.race(Race.fromName(answer));
+        } System.out.print("\nEnter a class to search for (Warrior, Mage, Rogue, Cleric, Bard, Ranger), or leave blank for any: ");
+        answer = input.nextLine();
+        if (!answer.isEmpty()) {
+            if (CharacterClass.fromName(answer) == null) {
+                System.out.println("\nThat is not a valid class.");
+                return;
+            } query.classOfCharacter(CharacterClass.fromName(answer));
+        } System.out.print("\nEnter the lowest level, or leave blank for any: ");
+        answer = input.nextLine();
+        if (!answer.isEmpty()) query.atLeast(Stat.LEVEL, Integer.parseInt(answer));
+        System.out.print("\nEnter the highest level, or leave blank for any: ");
+        answer = input.nextLine();
+        if (!answer.isEmpty()) query.atMost(Stat.LEVEL, Integer.parseInt(answer));
+        System.out.print("\nEnter a stat to sort by (Level, HitPoints, Strength, Constitution, Intelligence, Wisdom, Dexterity, Charisma), or leave blank to sort by name: ");
+        answer = input.nextLine();
+        if (answer.isEmpty()) query.sortByName();
+        else {
+            if (Stat.fromName(answer) == null) {
+                System.out.println("\nThat is not a valid stat.");
+                return;
+            } System.out.print("\nSort from highest to lowest? Enter 'y' or 'n': ");
+            query.sortBy(Stat.fromName(answer), input.nextLine().startsWith("y"));
+        } System.out.print("\nEnter the most characters to show, or leave blank for all: ");
+        answer = input.nextLine();
+        if (!answer.isEmpty()) query.limit(Integer.parseInt(answer));
+        Character[] matches = query(query); // the characters that match the query
         System.out.println();
-        if (characters.length == 0) System.out.println("\nThere are no characters currently available. Please add some characters.");
-        else for (Character character : characters) character.display();
+        for (Character character : matches) character.display();
+        System.out.println("\n" + matches.length + " character(s) found.");
+    }
+
+    /** Method Name: searchByName
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Finds the characters a user most likely meant by a part of a name or a misspelled name, without case. Like a query, copies of the characters are returned
+     * @Parameters text - the name or part of a name, limit - the most characters returned
+     * @Returns The characters, best match first, Data Type: Character[]
+     * Dependencies: NameSearchIndex
+     * Throws/Exceptions: N/A
+     */
+
+    public Character[] searchByName(String text, int limit) {
+        long stamp = lockShared(); // the stamp of the lock, 0 if this thread already held it
+        try {
+            int[] slots; // the indexes of the matching characters
+            synchronized (searchIndexLock) {
+                buildSearchIndexes();
+                slots = nameSearchIndex.suggest(text, limit);
+            }
+            Character[] matches = new Character[slots.length]; // the matching characters
+            for (int i = 0; i < slots.length; i++) matches[i] = copyCharacter(slots[i]);
+            return matches;
+        } finally {
+            unlockShared(stamp);
+        }
+    }
+
+    /** Method Name: userSearchByName
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Asks the user for part of a name and prints the characters that best match it
+     * @Parameters input - used to take user input
+     * @Returns N/A, Data Type: Void
+     * Dependencies: Scanner
+     * Throws/Exceptions: N/A
+     */
+
+    public void userSearchByName(Scanner input) {
+        final int MAX_RESULTS = 10; // the most characters printed
+        System.out.print("\nEnter part of a name, spelling and case do not have to be exact: ");
+        Character[] matches = searchByName(input.nextLine(), MAX_RESULTS); // the characters that best match
+        System.out.println();
+        if (matches.length == 0) System.out.println("No characters found.");
+        for (Character character : matches) character.display();
+    }
+
+    public String getBinaryFileName() {
+        return binaryFileName;
+    }
+
+    /** Method Name: getRecordCache
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets the cache of decoded characters, which only exists in lazy mode since the list holds every character otherwise
+     * @Parameters N/A
+     * @Returns The record cache, or null if characters are not loaded lazily, Data Type: RecordCache
+     * Dependencies: LazyRoster
+     * Throws/Exceptions: N/A
+     */
+
+    public RecordCache getRecordCache() {
+        return lazyLoad ? ((LazyRoster) characters).getCache() : null;
+    }
+
+    public OperationMetrics getMetrics() {
+        return metrics;
+    }
+
+    /** Method Name: getCharacter
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets a copy of the character at an index, which can be changed and passed to updateCharacter. The character is read without taking the lock and only read again under the lock if the list changed meanwhile, except in lazy mode where a read changes the cache
+     * @Parameters characterIndex - the index of the character
+     * @Returns A copy of the character, or null if the slot is free, Data Type: Character
+     * Dependencies: StampedLock
+     * Throws/Exceptions: N/A
+     */
+
+    public Character getCharacter(int characterIndex) {
+        long stamp = lazyLoad ? 0 : lock.tryOptimisticRead(); // the stamp of the optimistic read, 0 if the list is being changed
+        if (stamp != 0) {
+            try {
+                Character character = copyCharacter(characterIndex); // the character as it was read
+                if (lock.validate(stamp)) return character;
+            } catch (RuntimeException e) {
+                // the list was changed while it was read, so it is read again under the lock
+            }
+        } stamp = lockShared();
+        try {
+            return copyCharacter(characterIndex);
+        } finally {
+            unlockShared(stamp);
+        }
+    }
+
+    private Character copyCharacter(int characterIndex) {
+        synchronized (getRecordLock(characterIndex)) {
+            Character character = characters.get(characterIndex); // the character in the list
+            return character == null ? null : new Character(character);
+        }
+    }
+
+    public int getNumberOfCharacters() {
+        return characters.size();
     }
 
     public Character[] getCharacterList() {
-        return characters;
+        long stamp = lockShared(); // the stamp of the lock, 0 if this thread already held it
+        try {
+            Character[] list = new Character[characters.size()]; // copies of the characters that have not been deleted
+            for (int slot = 0, i = 0; slot < characters.getNumberOfSlots(); slot++) if (!characters.isFree(slot)) list[i++] = copyCharacter(slot);
+            return list;
+        } finally {
+            unlockShared(stamp);
+        }
+    }
+
+    public void setPersistNameIndex(boolean persistNameIndex) {
+        this.persistNameIndex = persistNameIndex;
+    }
+
+    public void setUseMappedStore(boolean useMappedStore) {
+        this.useMappedStore = useMappedStore;
+    }
+
+    public void setWriteBack(boolean writeBack, int writeBackLimit, long writeBackMillis) {
+        this.writeBack = writeBack;
+        this.writeBackLimit = writeBackLimit;
+        this.writeBackNanos = writeBackMillis * 1_000_000;
+    }
+
+    public void setBulkMode(boolean bulkMode) {
+        this.bulkMode = bulkMode;
+    }
+
+    public void setUseWriteAheadLog(boolean useWriteAheadLog) {
+        this.useWriteAheadLog = useWriteAheadLog;
+    }
+
+    public void setParallelImport(boolean parallelImport) {
+        this.parallelImport = parallelImport;
+    }
+
+    public void setFlushPolicy(FlushPolicy flushPolicy, int writesPerFlush) {
+        this.flushPolicy = flushPolicy;
+        this.writesPerFlush = writesPerFlush;
     }
 }
\ No newline at end of file
@@ -0,0 +1,114 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Roster that keeps each stat of every character in its own array, so scanning or totalling a stat walks one block of memory instead of following a pointer to every character
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.util.Arrays;
+
+public class ColumnarRoster extends AbstractRoster {
+
+    private String[] names; // the name of the character in each slot, a deleted slot holds null
+    private byte[] raceCodes; // the race code of the character in each slot, -1 for an unknown race
+    private byte[] classCodes; // the class code of the character in each slot, -1 for an unknown class
+    private final int[][] columns; // one array per stat holding the value of the stat for each slot
+    private final static Stat[] STATS = Stat.values(); // every stat, indexed by the column it is kept in
+
+    public ColumnarRoster(int capacity) {
+        int initialCapacity = Math.max(capacity, 0); // the number of slots that fit before growing
+        names = new String[initialCapacity];
+        raceCodes = new byte[initialCapacity];
+        classCodes = new byte[initialCapacity];
+        columns = new int[STATS.length][initialCapacity];
+    }
+
+    protected void ensureCapacity(int capacity) {
+        if (capacity <= names.length) return;
+        int newCapacity = Math.max(capacity, Math.max(MIN_CAPACITY, names.length * 2)); // the number of slots after growing
+        names = Arrays.copyOf(names, newCapacity);
+        raceCodes = Arrays.copyOf(raceCodes, newCapacity);
+        classCodes = Arrays.copyOf(classCodes, newCapacity);
+        for (int i = 0; i < columns.length; i++) columns[i] = Arrays.copyOf(columns[i], newCapacity);
+    }
+
+    protected void erase(int slot) {
+        names[slot] = null;
+    }
+
+    protected void move(int fromSlot, int toSlot) {
+        names[toSlot] = names[fromSlot];
+        raceCodes[toSlot] = raceCodes[fromSlot];
+        classCodes[toSlot] = classCodes[fromSlot];
+        for (int[] column : columns) column[toSlot] = column[fromSlot];
+        names[fromSlot] = null;
+    }
+
+    /** Method Name: get
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Builds a character out of the values of a slot, the character is a copy so changes have to be passed back to set
+     * @Parameters slot - the slot of the character
+     * @Returns The character, or null if the slot is free, Data Type: Character
+     * Dependencies: Race, CharacterClass, Stat
+     * Throws/Exceptions: N/A
+     */
+
+    public Character get(int slot) {
+        if (names[slot] == null) return null;
+        Character character = new Character(); // the character being built
+        character.setName(names[slot]);
+        character.setRace(Race.fromCode(raceCodes[slot]));
+        character.setClassOfCharacter(CharacterClass.fromCode(classCodes[slot]));
+        for (Stat stat : STATS) character.restoreStat(stat, columns[stat.ordinal()][slot]);
+        return character;
+    }
+
+    /** Method Name: set
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Copies the values of a character into the columns of a slot, names are interned so repeated names share one string
+     * @Parameters slot - the slot of the character, character - the character being stored
+     * @Returns N/A, Data Type: Void
+     * Dependencies: Race, CharacterClass, Stat
+     * Throws/Exceptions: N/A
+     */
+
+    public void set(int slot, Character character) {
+        names[slot] = character.getName().intern();
+        raceCodes[slot] = (byte) (character.getRace() == null ? -1 : character.getRace().getCode());
+        classCodes[slot] = (byte) (character.getClassOfCharacter() == null ? -1 : character.getClassOfCharacter().getCode());
+        for (Stat stat : STATS) columns[stat.ordinal()][slot] = character.getStat(stat);
+    }
+
+    public int getStat(int slot, Stat stat) {
+        return columns[stat.ordinal()][slot];
+    }
+
+    public long sum(Stat stat) {
+        int[] column = columns[stat.ordinal()]; // the values of the stat
+        long total = 0; // the total of the stat so far
+        for (int i = 0; i < numberOfSlots; i++) if (names[i] != null) total += column[i];
+        return total;
+    }
+
+    public int min(Stat stat) {
+        int[] column = columns[stat.ordinal()]; // the values of the stat
+        int lowest = Integer.MAX_VALUE; // the lowest value of the stat so far
+        for (int i = 0; i < numberOfSlots; i++) if (names[i] != null) lowest = Math.min(lowest, column[i]);
+        return lowest;
+    }
+
+    public int max(Stat stat) {
+        int[] column = columns[stat.ordinal()]; // the values of the stat
+        int highest = Integer.MIN_VALUE; // the highest value of the stat so far
+        for (int i = 0; i < numberOfSlots; i++) if (names[i] != null) highest = Math.max(highest, column[i]);
+        return highest;
+    }
+
+    public boolean isFree(int slot) {
+        return names[slot] == null;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Hands out the random number generators dice are rolled with. Each thread gets its own stream so threads never fight over one generator, by default that is the thread's ThreadLocalRandom. Once a seed is set every stream is split from one seeded SplittableRandom so runs can be replayed, and a thread can also be given a generator of its own
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+public class Dice {
+
+    private final static ThreadLocal<Stream> streams = new ThreadLocal<>(); // the stream of each thread
+    private static SplittableRandom root = null; // the seeded generator every stream is split from, null if no seed is set
+    private static volatile long generation = 0; // changes whenever the seed does, so threads know to get a new stream
+
+    private Dice() {
+    }
+
+    static {
+        Long seed = Long.getLong("charactermanager.seed"); // the seed passed on the command line, if any
+        if (seed != null) setSeed(seed);
+    }
+
+    /** Method Name: current
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets the generator of the calling thread, a thread is given a new stream the first time it asks and again after the seed changes, unless it was given a generator with use
+     * @Parameters N/A
+     * @Returns The generator of the thread, Data Type: RandomGenerator
+     * Dependencies: ThreadLocal
+     * Throws/Exceptions: N/A
+     */
+
+    public static RandomGenerator current() {
+        Stream stream = streams.get(); // the stream the thread was given last
+        if (stream != null && (stream.isPinned || stream.generation == generation)) return stream.generator;
+        long currentGeneration = generation; // read before the stream is made, so a seed set meanwhile is picked up next time
+        RandomGenerator generator = newStream(); // the new stream of the thread
+        streams.set(new Stream(generator, currentGeneration, false));
+        return generator;
+    }
+
+    /** Method Name: newStream
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Makes a stream for a thread, split from the seeded generator if there is one and the thread's ThreadLocalRandom if not
+     * @Parameters N/A
+     * @Returns The new stream, Data Type: RandomGenerator
+     * Dependencies: SplittableRandom, ThreadLocalRandom
+     * Throws/Exceptions: N/A
+     */
+
+    private static synchronized RandomGenerator newStream() {
+        return root == null ? ThreadLocalRandom.current() : root.split();
+    }
+
+    /** Method Name: setSeed
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Seeds the generator every stream is split from and gives every thread a new stream, the calling thread's next rolls start right away from the seed, streams of other threads depend on the order the threads first roll in, so use split to replay work spread over threads
+     * @Parameters seed - the seed
+     * @Returns N/A, Data Type: Void
+     * Dependencies: SplittableRandom
+     * Throws/Exceptions: N/A
+     */
+
+    public static synchronized void setSeed(long seed) {
+        root = new SplittableRandom(seed);
+        generation++;
+        streams.remove();
+    }
+
+    /** Method Name: clearSeed
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Goes back to unseeded streams from ThreadLocalRandom
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    public static synchronized void clearSeed() {
+        root = null;
+        generation++;
+        streams.remove();
+    }
+
+    public static synchronized boolean isSeeded() {
+        return root != null;
+    }
+
+    /** Method Name: use
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Makes the calling thread roll with a generator of its own until release is called, the generator is kept even if the seed changes
+     * @Parameters generator - the generator the thread rolls with
+     * @Returns N/A, Data Type: Void
+     * Dependencies: ThreadLocal
+     * Throws/Exceptions: N/A
+     */
+
+    public static void use(RandomGenerator generator) {
+        streams.set(new Stream(generator, generation, true));
+    }
+
+    public static void release() {
+        streams.remove();
+    }
+
+    /** Method Name: split
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Splits an independent generator off the calling thread's generator, handing one of these to each piece of work done in parallel keeps a seeded run the same however the work is scheduled
+     * @Parameters N/A
+     * @Returns The new generator, Data Type: RandomGenerator
+     * Dependencies: SplittableGenerator, SplittableRandom
+     * Throws/Exceptions: N/A
+     */
+
+    public static RandomGenerator split() {
+        RandomGenerator generator = current(); // the generator being split
+        if (generator instanceof RandomGenerator.SplittableGenerator splittable) return splittable.split();
+        return new SplittableRandom(generator.nextLong());
+    }
+
+    private static class Stream {
+
+        private final RandomGenerator generator; // the generator the thread rolls with
+        private final long generation; // the generation of the seed the stream was split from
+        private final boolean isPinned; // whether the generator was given with use, so it is kept when the seed changes
+
+        private Stream(RandomGenerator generator, long generation, boolean isPinned) {
+            this.generator = generator;
+            this.generation = generation;
+            this.isPinned = isPinned;
+        }
+    }
+}
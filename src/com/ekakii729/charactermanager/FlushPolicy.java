@@ -0,0 +1,13 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: The choices for how often record writes are forced onto the disk, trading durability against write latency
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+
+public enum FlushPolicy {
+    EVERY_WRITE, // every record write is forced to disk before the edit finishes
+    EVERY_N_WRITES, // writes are forced to disk once a set number of them have built up
+    ON_CLOSE // writes are only forced to disk when the binary file is closed
+}
@@ -0,0 +1,152 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Character store that puts every write through a write-ahead log before it reaches another store, so a crash in the middle of a write can not leave a half written record behind. Its methods are synchronized since the log is appended one entry at a time
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+public class JournaledCharacterStore implements CharacterStore {
+
+    private final CharacterStore store; // the store of the binary file, only written once an entry has been committed to the log
+    private final File logFile; // the log file of the binary file
+    private final WriteAheadLog log; // the log every write goes through
+    private final static int ENTRIES_PER_COMMIT = 64; // the most writes of a batch that are grouped into one commit before the log has to be synced
+    private final static long CHECKPOINT_LENGTH = 4 << 20; // the store is synced and the log emptied once the log has grown past this many bytes
+
+    public JournaledCharacterStore(CharacterStore store, String binaryFileName) throws IOException {
+        this.store = store;
+        logFile = WriteAheadLog.getLogFile(binaryFileName);
+        WriteAheadLog.replay(logFile, store);
+        log = new WriteAheadLog(logFile, store.getFormat(), ENTRIES_PER_COMMIT);
+    }
+
+    /** Method Name: checkpoint
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Commits the pending writes, forces the store to disk and empties the log, since everything in it is now in the binary file
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: WriteAheadLog
+     * Throws/Exceptions: IOException
+     */
+
+    public synchronized void checkpoint() throws IOException {
+        log.commit(store);
+        store.flush();
+        log.reset();
+    }
+
+    public synchronized int getNumberOfRecords() throws IOException {
+        log.commit(store);
+        return store.getNumberOfRecords();
+    }
+
+    public synchronized void setNumberOfRecords(int numberOfRecords) throws IOException {
+        log.commit(store);
+        store.setNumberOfRecords(numberOfRecords);
+    }
+
+    public synchronized void readRecord(int numberOfRecord, Character character) throws IOException {
+        log.commit(store);
+        store.readRecord(numberOfRecord, character);
+    }
+
+    /** Method Name: writeRecord
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Logs a write and commits it right away, so a single edit is safe in the log before this returns, the same as it was safe in the binary file before the log existed
+     * @Parameters numberOfRecord - the number of the record, character - the character being written
+     * @Returns N/A, Data Type: Void
+     * Dependencies: WriteAheadLog
+     * Throws/Exceptions: IOException
+     */
+
+    public synchronized void writeRecord(int numberOfRecord, Character character) throws IOException {
+        log.append(numberOfRecord, character);
+        commit();
+    }
+
+    /** Method Name: writeRecords
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Logs the writes of a batch, which are committed a full group at a time so the log is synced once for every ENTRIES_PER_COMMIT records rather than once for each. Batches and write-back mode write their records this way
+     * @Parameters firstRecord - the number of the first record, characters - the characters being written, numberOfCharacters - the number of characters to write
+     * @Returns N/A, Data Type: Void
+     * Dependencies: WriteAheadLog
+     * Throws/Exceptions: IOException
+     */
+
+    public synchronized void writeRecords(int firstRecord, Character[] characters, int numberOfCharacters) throws IOException {
+        for (int i = 0; i < numberOfCharacters; i++) {
+            log.append(firstRecord + i, characters[i]);
+            if (log.isFull()) commit();
+        } commit();
+    }
+
+    public synchronized void writeTombstone(int numberOfRecord) throws IOException {
+        log.append(numberOfRecord, null);
+        commit();
+    }
+
+    /** Method Name: flush
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Commits any pending writes, which only syncs the log since the writes can be replayed from it, the store itself is synced at checkpoints
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: WriteAheadLog
+     * Throws/Exceptions: IOException
+     */
+
+    public synchronized void flush() throws IOException {
+        commit();
+    }
+
+    /** Method Name: commit
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Commits the pending writes and checkpoints once the log has grown too long
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: WriteAheadLog
+     * Throws/Exceptions: IOException
+     */
+
+    private void commit() throws IOException {
+        log.commit(store);
+        if (log.getLength() >= CHECKPOINT_LENGTH) checkpoint();
+    }
+
+    /** Method Name: close
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Checkpoints and closes the store, the empty log is deleted so only a crash leaves one behind
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: WriteAheadLog, Files
+     * Throws/Exceptions: IOException
+     */
+
+    public synchronized void close() throws IOException {
+        try {
+            checkpoint();
+        } finally {
+            log.close();
+            store.close();
+        } Files.deleteIfExists(logFile.toPath());
+    }
+
+    public RecordFormat getFormat() {
+        return store.getFormat();
+    }
+}
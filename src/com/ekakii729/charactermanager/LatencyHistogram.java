@@ -0,0 +1,141 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Histogram of latencies in nanoseconds laid out like an HdrHistogram, values below 64 get a bucket each and every doubling above that is split into 32 buckets, so any value is kept to within about 3% in a fixed 15 KB. Recording is lock free so many threads can record at once
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+
+    private final static int SUB_BUCKET_BITS = 5; // each doubling of the values is split into 2^5 buckets
+    private final static int SUB_BUCKETS = 1 << SUB_BUCKET_BITS; // the number of buckets each doubling is split into
+    private final static int NUMBER_OF_BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS; // enough buckets for any positive long
+    private final AtomicLongArray buckets; // the number of values recorded in each bucket
+    private final LongAdder count; // the number of values recorded
+    private final LongAdder total; // the sum of the values recorded
+    private final LongAccumulator max; // the highest value recorded
+
+    public LatencyHistogram() {
+        buckets = new AtomicLongArray(NUMBER_OF_BUCKETS);
+        count = new LongAdder();
+        total = new LongAdder();
+        max = new LongAccumulator(Math::max, 0);
+    }
+
+    /** Method Name: getBucket
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Finds the bucket of a value, values below 64 are their own bucket and larger values keep their highest 6 bits (ex. 1000 shares a bucket with 992 to 1007)
+     * @Parameters value - the value, at least 0
+     * @Returns The bucket of the value, Data Type: Integer
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    private static int getBucket(long value) {
+        if (value < 2 * SUB_BUCKETS) return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS; // how many low bits of the value are dropped
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    /** Method Name: getHighestValue
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets the highest value that falls in a bucket, which is what a percentile in that bucket is reported as so it is never under stated
+     * @Parameters bucket - the bucket
+     * @Returns The highest value of the bucket, Data Type: Long
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    private static long getHighestValue(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) return bucket;
+        int shift = bucket / SUB_BUCKETS - 1; // how many low bits of the values in the bucket were dropped
+        long top = bucket % SUB_BUCKETS + SUB_BUCKETS; // the highest bits shared by the values in the bucket
+        return ((top + 1) << shift) - 1;
+    }
+
+    /** Method Name: record
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Records a value a number of times, negative values are recorded as 0
+     * @Parameters value - the value in nanoseconds, numberOfTimes - the number of times it is recorded
+     * @Returns N/A, Data Type: Void
+     * Dependencies: AtomicLongArray, LongAdder, LongAccumulator
+     * Throws/Exceptions: N/A
+     */
+
+    public void record(long value, long numberOfTimes) {
+        value = Math.max(value, 0);
+        buckets.addAndGet(getBucket(value), numberOfTimes);
+        count.add(numberOfTimes);
+        total.add(value * numberOfTimes);
+        max.accumulate(value);
+    }
+
+    public void record(long value) {
+        record(value, 1);
+    }
+
+    /** Method Name: getValueAtPercentile
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets the value that a percentage of the recorded values are at or below, values recorded while the buckets are counted may or may not be included
+     * @Parameters percentile - the percentage, from 0 to 100
+     * @Returns The value, or 0 if nothing was recorded, Data Type: Long
+     * Dependencies: AtomicLongArray
+     * Throws/Exceptions: N/A
+     */
+
+    public long getValueAtPercentile(double percentile) {
+        long[] counts = new long[NUMBER_OF_BUCKETS]; // a copy of the buckets, so they add up to the same total while they are walked
+        long recorded = 0; // the number of values in the copied buckets
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) recorded += counts[i] = buckets.get(i);
+        if (recorded == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * recorded)); // the number of values at or below the one being found
+        long seen = 0; // the number of values in the buckets walked so far
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(getHighestValue(i), getMax());
+        } return getMax();
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long numberOfValues = count.sum(); // the number of values recorded
+        return numberOfValues == 0 ? 0 : (double) total.sum() / numberOfValues;
+    }
+
+    /** Method Name: reset
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Forgets every recorded value, values recorded during the reset may be partly kept
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: AtomicLongArray, LongAdder, LongAccumulator
+     * Throws/Exceptions: N/A
+     */
+
+    public void reset() {
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) buckets.set(i, 0);
+        count.reset();
+        total.reset();
+        max.reset();
+    }
+}
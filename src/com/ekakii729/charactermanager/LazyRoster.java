@@ -0,0 +1,173 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Roster that leaves the characters in the binary file and only decodes a record when it is asked for, so opening a huge file takes neither the time nor the memory of reading every character. Its methods are synchronized since even a read changes the cache
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.BitSet;
+import java.util.HashMap;
+
+public class LazyRoster extends AbstractRoster {
+
+    private final RecordSource source; // reads the record of a slot from the binary file
+    private final BitSet deletedSlots; // the slots that hold no character
+    private final HashMap<Integer, Character> changedCharacters; // the characters set since their records were last written, kept until then since the file does not have them yet
+    private final RecordCache cache; // the most recently used characters, decoded from the file or set
+    private final Character scratchCharacter; // decodes records that are only read for a single stat
+
+    public interface RecordSource {
+
+        /** Method Name: readRecord
+         * @Author Abhay Manoj
+         * @Date October 17, 2026
+         * @Modified October 17, 2026
+         * @Description Reads the record of a slot from the binary file
+         * @Parameters numberOfRecord - the number of the record, character - the character the values are assigned to
+         * @Returns N/A, Data Type: Void
+         * Dependencies: N/A
+         * Throws/Exceptions: IOException
+         */
+
+        void readRecord(int numberOfRecord, Character character) throws IOException;
+    }
+
+    public LazyRoster(RecordSource source, int cacheCapacity) {
+        this.source = source;
+        deletedSlots = new BitSet();
+        changedCharacters = new HashMap<>();
+        cache = new RecordCache(cacheCapacity);
+        scratchCharacter = new Character();
+    }
+
+    /** Method Name: open
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Points the roster at a binary file that has just been opened, no record is read until it is asked for
+     * @Parameters numberOfRecords - the number of records in the file, deletedSlots - the records that are tombstones
+     * @Returns N/A, Data Type: Void
+     * Dependencies: BitSet
+     * Throws/Exceptions: N/A
+     */
+
+    public synchronized void open(int numberOfRecords, BitSet deletedSlots) {
+        clear();
+        numberOfSlots = numberOfRecords;
+        this.deletedSlots.or(deletedSlots);
+        for (int slot = deletedSlots.nextSetBit(0); slot >= 0 && slot < numberOfRecords; slot = deletedSlots.nextSetBit(slot + 1)) pushFreeSlot(slot);
+    }
+
+    /** Method Name: decode
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Reads the record of a slot from the binary file
+     * @Parameters slot - the slot being read, character - the character the values are assigned to
+     * @Returns The character that was read, Data Type: Character
+     * Dependencies: RecordSource
+     * Throws/Exceptions: UncheckedIOException
+     */
+
+    private Character decode(int slot, Character character) {
+        try {
+            source.readRecord(slot, character);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } return character;
+    }
+
+    protected void ensureCapacity(int capacity) {
+    }
+
+    protected synchronized void erase(int slot) {
+        deletedSlots.set(slot);
+        changedCharacters.remove(slot);
+        cache.remove(slot);
+    }
+
+    protected synchronized void move(int fromSlot, int toSlot) {
+        set(toSlot, get(fromSlot));
+        erase(fromSlot);
+    }
+
+    public synchronized void clear() {
+        deletedSlots.clear();
+        changedCharacters.clear();
+        cache.clear();
+        resetSlots();
+    }
+
+    /** Method Name: get
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets the character in a slot from the cache, a character that is not cached is taken from the changed characters or decoded from the binary file and then cached
+     * @Parameters slot - the slot being read
+     * @Returns The character, or null if the slot is free, Data Type: Character
+     * Dependencies: HashMap, RecordCache
+     * Throws/Exceptions: UncheckedIOException
+     */
+
+    public synchronized Character get(int slot) {
+        if (deletedSlots.get(slot)) return null;
+        Character character = cache.get(slot); // the cached character
+        if (character != null) return character;
+        character = changedCharacters.get(slot);
+        if (character == null) character = decode(slot, new Character());
+        cache.put(slot, character);
+        return character;
+    }
+
+    /** Method Name: set
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Puts a character in a slot, the cache is written through so the next read of the slot does not decode the record again
+     * @Parameters slot - the slot being written, character - the character
+     * @Returns N/A, Data Type: Void
+     * Dependencies: HashMap, RecordCache
+     * Throws/Exceptions: N/A
+     */
+
+    public synchronized void set(int slot, Character character) {
+        deletedSlots.clear(slot);
+        cache.put(slot, character);
+        changedCharacters.put(slot, character);
+    }
+
+    /** Method Name: getStat
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets one stat of the character in a slot, a record that is not in memory is decoded into a scratch character so a scan over every slot does not push the used characters out of the cache
+     * @Parameters slot - the slot being read, stat - the stat being read
+     * @Returns The value of the stat, Data Type: Integer
+     * Dependencies: HashMap, RecordCache
+     * Throws/Exceptions: UncheckedIOException
+     */
+
+    public synchronized int getStat(int slot, Stat stat) {
+        Character character = cache.peek(slot); // the cached character
+        if (character == null) character = changedCharacters.get(slot);
+        return (character == null ? decode(slot, scratchCharacter) : character).getStat(stat);
+    }
+
+    public synchronized boolean isFree(int slot) {
+        return deletedSlots.get(slot);
+    }
+
+    public synchronized void markSaved() {
+        changedCharacters.clear();
+    }
+
+    public synchronized void markWritten(int slot) {
+        changedCharacters.remove(slot);
+    }
+
+    public RecordCache getCache() {
+        return cache;
+    }
+}
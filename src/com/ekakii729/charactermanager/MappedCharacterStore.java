@@ -0,0 +1,155 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Character store that maps the binary file into memory so reading and writing a record are buffer operations instead of system calls
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class MappedCharacterStore implements CharacterStore {
+
+    private final Path path; // the path of the binary file
+    private final FileChannel channel; // the channel the binary file is mapped through
+    private final RecordFormat format; // the layout of the records in the file
+    private final int recordLength; // the length of a record in bytes
+    private final CopyOnWriteArrayList<MappedByteBuffer> segments; // the mapped parts of the file, each holding up to RECORDS_PER_SEGMENT records, only replaced while the store grows so records can be read and written by many threads
+    private volatile int numberOfRecords; // the number of records in the store
+    private int capacity; // the number of records that are currently mapped
+    private final static int RECORDS_PER_SEGMENT = 1 << 20; // a single mapping can not be bigger than 2GB, so the file is mapped in segments of this many records
+    private final static int MIN_CAPACITY = 64; // the smallest number of records that is mapped when the store grows
+
+    public MappedCharacterStore(String fileName) throws IOException {
+        path = Paths.get(fileName);
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        format = RecordFormat.open(channel);
+        recordLength = format.getRecordLength();
+        segments = new CopyOnWriteArrayList<>();
+        numberOfRecords = format.countRecords(channel);
+        capacity = 0;
+        mapRecords(numberOfRecords);
+    }
+
+    /** Method Name: mapRecords
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Maps the file up to a number of records, remapping the last segment if it grows, new records beyond the old end of the file become tombstones
+     * @Parameters newCapacity - the number of records that need to be mapped
+     * @Returns N/A, Data Type: Void
+     * Dependencies: FileChannel, MappedByteBuffer
+     * Throws/Exceptions: IOException
+     */
+
+    private void mapRecords(int newCapacity) throws IOException {
+        int oldFileRecords = (int) (Math.max(0, channel.size() - format.getHeaderLength()) / recordLength); // the number of records the file held before growing
+        int firstSegment = capacity == 0 ? 0 : (capacity - 1) / RECORDS_PER_SEGMENT; // the last partially mapped segment is mapped again
+        int lastSegment = newCapacity == 0 ? -1 : (newCapacity - 1) / RECORDS_PER_SEGMENT; // the segment holding the last record
+        for (int i = firstSegment; i <= lastSegment; i++) {
+            long segmentStart = (long) i * RECORDS_PER_SEGMENT; // the first record in the segment
+            int segmentRecords = (int) Math.min(RECORDS_PER_SEGMENT, newCapacity - segmentStart); // the number of records the segment maps
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, format.getHeaderLength() + segmentStart * recordLength, (long) segmentRecords * recordLength); // the new mapping
+            if (i < segments.size()) segments.set(i, segment);
+            else segments.add(segment);
+        } capacity = newCapacity;
+        if (newCapacity > oldFileRecords) {
+            ByteBuffer tombstone = ByteBuffer.allocate(recordLength); // the bytes of a tombstone record
+            format.writeRecord(Character.createTombstone(), tombstone, 0);
+            for (int i = oldFileRecords; i < newCapacity; i++) getSegment(i).put(getOffset(i), tombstone, 0, recordLength);
+        }
+    }
+
+    private MappedByteBuffer getSegment(int numberOfRecord) {
+        return segments.get(numberOfRecord / RECORDS_PER_SEGMENT);
+    }
+
+    private int getOffset(int numberOfRecord) {
+        return (numberOfRecord % RECORDS_PER_SEGMENT) * recordLength;
+    }
+
+    public int getNumberOfRecords() {
+        return numberOfRecords;
+    }
+
+    public synchronized void setNumberOfRecords(int numberOfRecords) throws IOException {
+        if (numberOfRecords > capacity) mapRecords(numberOfRecords);
+        this.numberOfRecords = numberOfRecords;
+        format.writeHeader(channel, numberOfRecords);
+    }
+
+    public void readRecord(int numberOfRecord, Character character) throws IOException {
+        if (numberOfRecord >= numberOfRecords) throw new EOFException("Record " + numberOfRecord + " is past the end of the file");
+        format.readRecord(getSegment(numberOfRecord), getOffset(numberOfRecord), character);
+    }
+
+    public void writeRecord(int numberOfRecord, Character character) throws IOException {
+        growTo(numberOfRecord + 1);
+        format.writeRecord(character, getSegment(numberOfRecord), getOffset(numberOfRecord));
+    }
+
+    public void writeTombstone(int numberOfRecord) throws IOException {
+        writeRecord(numberOfRecord, Character.createTombstone());
+    }
+
+    /** Method Name: growTo
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Makes sure the store holds at least a number of records, doubling the mapped capacity when it runs out so appends do not remap every time. Only a write past the last record has to wait for other threads
+     * @Parameters minNumberOfRecords - the number of records the store needs to hold
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: IOException
+     */
+
+    private void growTo(int minNumberOfRecords) throws IOException {
+        if (minNumberOfRecords <= numberOfRecords) return;
+        synchronized (this) {
+            if (minNumberOfRecords <= numberOfRecords) return;
+            if (minNumberOfRecords > capacity) mapRecords(Math.max(minNumberOfRecords, (int) Math.min(Integer.MAX_VALUE, Math.max(MIN_CAPACITY, 2L * capacity))));
+            numberOfRecords = minNumberOfRecords;
+        }
+    }
+
+    public synchronized void flush() throws IOException {
+        format.writeHeader(channel, numberOfRecords);
+        for (MappedByteBuffer segment : segments) segment.force();
+        channel.force(false);
+    }
+
+    public RecordFormat getFormat() {
+        return format;
+    }
+
+    /** Method Name: close
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Forces the mapped records to disk and cuts off any capacity that was mapped past the last record. The mappings are dropped and the channel is closed before the file is cut through a fresh channel, since some systems refuse to shrink a file that is still mapped. If the file still can not be cut, the extra capacity is left as tombstones which are skipped when the file is read
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: FileChannel
+     * Throws/Exceptions: IOException
+     */
+
+    public synchronized void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            segments.clear();
+            channel.close();
+        } long fileLength = format.getOffset(numberOfRecords); // the length of the file without the extra capacity
+        try (FileChannel truncateChannel = FileChannel.open(path, StandardOpenOption.WRITE)) { // a channel that never mapped the file
+            if (truncateChannel.size() > fileLength) truncateChannel.truncate(fileLength);
+        } catch (IOException e) { // the system still holds a mapping of the file, so the extra capacity stays as tombstones
+        }
+    }
+}
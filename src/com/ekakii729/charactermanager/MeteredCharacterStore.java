@@ -0,0 +1,76 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Character store that counts and times the record reads, record writes and flushes of another store, it adds no locking of its own so it is as thread safe as the store it wraps
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.io.IOException;
+
+public class MeteredCharacterStore implements CharacterStore {
+
+    private final CharacterStore store; // the store being measured
+    private final OperationMetrics metrics; // where the calls are counted and timed
+
+    public MeteredCharacterStore(CharacterStore store, OperationMetrics metrics) {
+        this.store = store;
+        this.metrics = metrics;
+    }
+
+    public int getNumberOfRecords() throws IOException {
+        return store.getNumberOfRecords();
+    }
+
+    public void setNumberOfRecords(int numberOfRecords) throws IOException {
+        store.setNumberOfRecords(numberOfRecords);
+    }
+
+    public void readRecord(int numberOfRecord, Character character) throws IOException {
+        long start = metrics.start(Operation.READ_RECORD); // when the read started
+        store.readRecord(numberOfRecord, character);
+        metrics.stop(Operation.READ_RECORD, start);
+    }
+
+    public void writeRecord(int numberOfRecord, Character character) throws IOException {
+        long start = metrics.start(Operation.WRITE_RECORD); // when the write started
+        store.writeRecord(numberOfRecord, character);
+        metrics.stop(Operation.WRITE_RECORD, start);
+    }
+
+    /** Method Name: writeRecords
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Writes a run of records with the run write of the wrapped store, each record is counted as a write taking its share of the time of the run
+     * @Parameters firstRecord - the number of the first record, characters - the characters being written, numberOfCharacters - the number of characters from the start of the array being written
+     * @Returns N/A, Data Type: Void
+     * Dependencies: OperationMetrics
+     * Throws/Exceptions: IOException
+     */
+
+    public void writeRecords(int firstRecord, Character[] characters, int numberOfCharacters) throws IOException {
+        long start = metrics.start(Operation.WRITE_RECORD, numberOfCharacters); // when the writes started
+        store.writeRecords(firstRecord, characters, numberOfCharacters);
+        metrics.stop(Operation.WRITE_RECORD, start, numberOfCharacters);
+    }
+
+    public void writeTombstone(int numberOfRecord) throws IOException {
+        long start = metrics.start(Operation.WRITE_RECORD); // when the write started
+        store.writeTombstone(numberOfRecord);
+        metrics.stop(Operation.WRITE_RECORD, start);
+    }
+
+    public void flush() throws IOException {
+        long start = metrics.start(Operation.FLUSH); // when the flush started
+        store.flush();
+        metrics.stop(Operation.FLUSH, start);
+    }
+
+    public void close() throws IOException {
+        store.close();
+    }
+
+    public RecordFormat getFormat() {
+        return store.getFormat();
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Maps character names to their slot in the character list so lookups do not need to scan every character
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.io.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class NameIndex {
+
+    private final ConcurrentHashMap<String, Integer> firstSlots; // the lowest slot holding each name, this is what lookups return, concurrent so lookups need no lock while names are changed
+    private final HashMap<String, TreeSet<Integer>> duplicateSlots; // the other slots of names that are used more than once
+    private final static int INDEX_FILE_MAGIC = 0x4E494458; // marks a file as a name index ("NIDX")
+
+    public NameIndex() {
+        firstSlots = new ConcurrentHashMap<>();
+        duplicateSlots = new HashMap<>();
+    }
+
+    /** Method Name: get
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets the slot of the first character with the given name, safe to call from any thread while the index is being changed
+     * @Parameters name - the name of the character
+     * @Returns The slot of the character or -1 if no character has that name, Data Type: Integer
+     * Dependencies: ConcurrentHashMap
+     * Throws/Exceptions: N/A
+     */
+
+    public int get(String name) {
+        Integer slot = firstSlots.get(name); // the slot the name is stored at
+        return slot == null ? -1 : slot;
+    }
+
+    /** Method Name: put
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Records that a character with the given name is stored at a slot
+     * @Parameters name - the name of the character, slot - the slot of the character
+     * @Returns N/A, Data Type: Void
+     * Dependencies: HashMap, TreeSet
+     * Throws/Exceptions: N/A
+     */
+
+    public void put(String name, int slot) {
+        Integer firstSlot = firstSlots.putIfAbsent(name, slot); // the slot that already held this name, if any
+        if (firstSlot == null || firstSlot == slot) return;
+        TreeSet<Integer> duplicates = duplicateSlots.computeIfAbsent(name, key -> new TreeSet<>()); // other slots with this name
+        if (slot < firstSlot) {
+            firstSlots.put(name, slot);
+            duplicates.add(firstSlot);
+        } else duplicates.add(slot);
+    }
+
+    /** Method Name: remove
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Forgets that a character with the given name is stored at a slot, promoting the next duplicate if there is one
+     * @Parameters name - the name of the character, slot - the slot of the character
+     * @Returns N/A, Data Type: Void
+     * Dependencies: HashMap, TreeSet
+     * Throws/Exceptions: N/A
+     */
+
+    public void remove(String name, int slot) {
+        Integer firstSlot = firstSlots.get(name); // the slot lookups currently return for this name
+        if (firstSlot == null) return;
+        TreeSet<Integer> duplicates = duplicateSlots.get(name); // other slots with this name
+        if (firstSlot != slot) {
+            if (duplicates != null && duplicates.remove(slot) && duplicates.isEmpty()) duplicateSlots.remove(name);
+            return;
+        } if (duplicates == null) firstSlots.remove(name);
+        else {
+            firstSlots.put(name, duplicates.pollFirst());
+            if (duplicates.isEmpty()) duplicateSlots.remove(name);
+        }
+    }
+
+    /** Method Name: clear
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Removes every name from the index
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    public void clear() {
+        firstSlots.clear();
+        duplicateSlots.clear();
+    }
+
+    /** Method Name: rebuild
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Rebuilds the index from every character in a roster
+     * @Parameters characters - the roster of characters
+     * @Returns N/A, Data Type: Void
+     * Dependencies: Roster
+     * Throws/Exceptions: N/A
+     */
+
+    public void rebuild(Roster characters) {
+        clear();
+        for (int i = 0; i < characters.getNumberOfSlots(); i++) if (!characters.isFree(i)) put(characters.get(i).getName(), i);
+    }
+
+    /** Method Name: save
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Writes the index to a file, stamped with the size and modification time of the binary file it describes
+     * @Parameters indexFile - the file to write to, binaryFile - the binary file the index belongs to
+     * @Returns N/A, Data Type: Void
+     * Dependencies: DataOutputStream, BufferedOutputStream, FileOutputStream
+     * Throws/Exceptions: IOException
+     */
+
+    public void save(File indexFile, File binaryFile) throws IOException {
+        try (DataOutputStream writer = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile)))) { // writes the index file
+            writer.writeInt(INDEX_FILE_MAGIC);
+            writer.writeLong(binaryFile.length());
+            writer.writeLong(binaryFile.lastModified());
+            int numberOfEntries = firstSlots.size(); // the number of name and slot pairs in the file
+            for (TreeSet<Integer> duplicates : duplicateSlots.values()) numberOfEntries += duplicates.size();
+            writer.writeInt(numberOfEntries);
+            for (Map.Entry<String, Integer> entry : firstSlots.entrySet()) {
+                writer.writeUTF(entry.getKey());
+                writer.writeInt(entry.getValue());
+            } for (Map.Entry<String, TreeSet<Integer>> entry : duplicateSlots.entrySet()) {
+                for (int slot : entry.getValue()) {
+                    writer.writeUTF(entry.getKey());
+                    writer.writeInt(slot);
+                }
+            }
+        }
+    }
+
+    /** Method Name: load
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Reads an index from a file if it still matches the binary file it was saved for
+     * @Parameters indexFile - the file to read from, binaryFile - the binary file the index belongs to
+     * @Returns The index, or null if the file is missing, damaged or out of date, Data Type: NameIndex
+     * Dependencies: DataInputStream, BufferedInputStream, FileInputStream
+     * Throws/Exceptions: N/A
+     */
+
+    public static NameIndex load(File indexFile, File binaryFile) {
+        if (!indexFile.isFile()) return null;
+        try (DataInputStream reader = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) { // reads the index file
+            if (reader.readInt() != INDEX_FILE_MAGIC || reader.readLong() != binaryFile.length() || reader.readLong() != binaryFile.lastModified()) return null;
+            NameIndex index = new NameIndex(); // the index being read
+            int numberOfEntries = reader.readInt(); // the number of name and slot pairs in the file
+            for (int i = 0; i < numberOfEntries; i++) index.put(reader.readUTF(), reader.readInt());
+            return index;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Finds characters by a part of their name or by a misspelled name, names are compared without case. Prefixes are looked up in a sorted map and misspellings through the three letter pieces (trigrams) the names share
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.util.*;
+
+public class NameSearchIndex {
+
+    private String[] normalizedNames; // the lower case name of the character in each slot, null for a free slot
+    private final TreeMap<String, SlotList> slotsByName; // the slots of each lower case name, sorted so every name with a prefix is one range
+    private final HashMap<Long, SlotList> slotsByTrigram; // the slots whose name contains each trigram, entries of renamed or deleted slots are left until the next rebuild
+    private int numberOfNames; // the number of slots that have a name
+    private long trigramEntries; // the number of entries in the trigram map, including stale ones
+    private long staleTrigramEntries; // the number of trigram entries left behind by renamed or deleted slots
+    private byte[] sharedTrigrams; // scratch space counting the trigrams each slot shares with a searched name, bytes so the counts of a million slots stay in cache
+    private final static int MAX_CANDIDATES = 256; // the most names the edit distance is worked out for in one search
+    private final static int MAX_SCANNED_ENTRIES = 1 << 16; // trigrams are skipped once this many entries have been counted, the rarest ones are counted first
+    private final static int MIN_STALE_ENTRIES_TO_REBUILD = 1024; // stale trigram entries are only cleaned up once there are at least this many
+
+    public NameSearchIndex() {
+        normalizedNames = new String[0];
+        slotsByName = new TreeMap<>();
+        slotsByTrigram = new HashMap<>();
+        numberOfNames = 0;
+        trigramEntries = 0;
+        staleTrigramEntries = 0;
+        sharedTrigrams = new byte[0];
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /** Method Name: getTrigrams
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Splits a lower case name into every run of three characters, the name is padded with spaces so the start and end of the name count as well
+     * @Parameters normalizedName - the lower case name
+     * @Returns The trigrams with each one packed into a number, Data Type: Long[]
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    private static long[] getTrigrams(String normalizedName) {
+        String padded = "  " + normalizedName + " "; // the name with padding at both ends
+        long[] trigrams = new long[padded.length() - 2]; // the packed trigrams
+        for (int i = 0; i < trigrams.length; i++) trigrams[i] = ((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2);
+        return trigrams;
+    }
+
+    /** Method Name: update
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Indexes the name of the character in a slot, nothing is done if the name has not changed
+     * @Parameters slot - the slot of the character, name - the name of the character
+     * @Returns N/A, Data Type: Void
+     * Dependencies: TreeMap, HashMap
+     * Throws/Exceptions: N/A
+     */
+
+    public void update(int slot, String name) {
+        String normalizedName = normalize(name); // the name without case
+        if (slot < normalizedNames.length && normalizedName.equals(normalizedNames[slot])) return;
+        remove(slot);
+        if (slot >= normalizedNames.length) {
+            normalizedNames = Arrays.copyOf(normalizedNames, Math.max(slot + 1, Math.max(16, normalizedNames.length * 2)));
+            sharedTrigrams = new byte[normalizedNames.length];
+        } normalizedNames[slot] = normalizedName;
+        numberOfNames++;
+        slotsByName.computeIfAbsent(normalizedName, key -> new SlotList()).add(slot);
+        addTrigrams(slot, normalizedName);
+    }
+
+    private void addTrigrams(int slot, String normalizedName) {
+        for (long trigram : getTrigrams(normalizedName)) slotsByTrigram.computeIfAbsent(trigram, key -> new SlotList()).add(slot);
+        trigramEntries += normalizedName.length() + 1;
+    }
+
+    /** Method Name: remove
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Takes the name of a slot out of the index, its trigram entries are only counted as stale and cleaned up by a rebuild once they make up half of the trigram map
+     * @Parameters slot - the slot being removed
+     * @Returns N/A, Data Type: Void
+     * Dependencies: TreeMap
+     * Throws/Exceptions: N/A
+     */
+
+    public void remove(int slot) {
+        if (slot >= normalizedNames.length || normalizedNames[slot] == null) return;
+        String normalizedName = normalizedNames[slot]; // the name being removed
+        SlotList slots = slotsByName.get(normalizedName); // the slots with the same name
+        slots.remove(slot);
+        if (slots.size == 0) slotsByName.remove(normalizedName);
+        normalizedNames[slot] = null;
+        numberOfNames--;
+        staleTrigramEntries += normalizedName.length() + 1;
+        if (staleTrigramEntries >= MIN_STALE_ENTRIES_TO_REBUILD && staleTrigramEntries * 2 > trigramEntries) rebuildTrigrams();
+    }
+
+    private void rebuildTrigrams() {
+        slotsByTrigram.clear();
+        trigramEntries = 0;
+        staleTrigramEntries = 0;
+        for (int i = 0; i < normalizedNames.length; i++) if (normalizedNames[i] != null) addTrigrams(i, normalizedNames[i]);
+    }
+
+    /** Method Name: rebuild
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Clears the index and fills it again with the name of every character of a roster
+     * @Parameters characters - the roster being indexed
+     * @Returns N/A, Data Type: Void
+     * Dependencies: Roster
+     * Throws/Exceptions: N/A
+     */
+
+    public void rebuild(Roster characters) {
+        normalizedNames = new String[Math.max(16, characters.getNumberOfSlots())];
+        sharedTrigrams = new byte[normalizedNames.length];
+        slotsByName.clear();
+        slotsByTrigram.clear();
+        numberOfNames = 0;
+        trigramEntries = 0;
+        staleTrigramEntries = 0;
+        for (int i = 0; i < characters.getNumberOfSlots(); i++) if (!characters.isFree(i)) update(i, characters.get(i).getName());
+    }
+
+    /** Method Name: findIgnoringCase
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Finds every character whose name matches a name when case is ignored
+     * @Parameters name - the name being looked for
+     * @Returns The slots of the matching characters, Data Type: Integer[]
+     * Dependencies: TreeMap
+     * Throws/Exceptions: N/A
+     */
+
+    public int[] findIgnoringCase(String name) {
+        SlotList slots = slotsByName.get(normalize(name)); // the slots with the name
+        return slots == null ? new int[0] : Arrays.copyOf(slots.slots, slots.size);
+    }
+
+    /** Method Name: findByPrefix
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Finds characters whose name starts with a prefix when case is ignored, in alphabetical order
+     * @Parameters prefix - the start of the name, limit - the most slots returned, nothing is found if it is below 1
+     * @Returns The slots of the matching characters, Data Type: Integer[]
+     * Dependencies: TreeMap
+     * Throws/Exceptions: N/A
+     */
+
+    public int[] findByPrefix(String prefix, int limit) {
+        if (limit < 1) return new int[0];
+        String normalizedPrefix = normalize(prefix); // the prefix without case
+        int[] matches = new int[Math.min(limit, numberOfNames)]; // the matching slots
+        int numberOfMatches = 0; // the number of matches found so far
+        for (SlotList slots : slotsByName.subMap(normalizedPrefix, true, normalizedPrefix + java.lang.Character.MAX_VALUE, false).values()) {
+            for (int i = 0; i < slots.size && numberOfMatches < matches.length; i++) matches[numberOfMatches++] = slots.slots[i];
+            if (numberOfMatches == matches.length) break;
+        } return Arrays.copyOf(matches, numberOfMatches);
+    }
+
+    /** Method Name: findSimilar
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Finds characters whose name is close to a possibly misspelled name. Slots are counted by how many trigrams they share with the name, then only the slots sharing the most are ranked by edit distance, closest first
+     * @Parameters name - the misspelled name, limit - the most slots returned, nothing is found if it is below 1
+     * @Returns The slots of the closest characters, Data Type: Integer[]
+     * Dependencies: HashMap, Arrays
+     * Throws/Exceptions: N/A
+     */
+
+    public int[] findSimilar(String name, int limit) {
+        if (limit < 1) return new int[0];
+        String normalizedName = normalize(name); // the name without case
+        int maxDistance = Math.max(2, normalizedName.length() / 3); // the most edits a similar name can be away
+        long[] trigrams = getTrigrams(normalizedName); // the trigrams of the name
+        SlotList[] postings = new SlotList[trigrams.length]; // the slots of each trigram that is in the index
+        int numberOfPostings = 0; // the number of trigrams that are in the index
+        for (long trigram : trigrams) {
+            SlotList slots = slotsByTrigram.get(trigram); // the slots containing the trigram
+            if (slots != null) postings[numberOfPostings++] = slots;
+        } Arrays.sort(postings, 0, numberOfPostings, Comparator.comparingInt((SlotList slots) -> slots.size));
+        int[] touchedSlots = new int[0]; // the slots that share at least one trigram
+        int numberOfTouchedSlots = 0; // the number of touched slots
+        int scannedEntries = 0; // the number of trigram entries counted so far
+        for (int i = 0; i < numberOfPostings && (i == 0 || scannedEntries + postings[i].size <= MAX_SCANNED_ENTRIES); i++) {
+            SlotList slots = postings[i]; // the slots of the next rarest trigram
+            scannedEntries += slots.size;
+            for (int j = 0; j < slots.size; j++) {
+                int slot = slots.slots[j]; // the slot containing the trigram
+                int shared = sharedTrigrams[slot] & 0xFF; // the trigrams counted for the slot so far
+                if (shared == 0) {
+                    if (numberOfTouchedSlots == touchedSlots.length) touchedSlots = Arrays.copyOf(touchedSlots, Math.max(64, touchedSlots.length * 2));
+                    touchedSlots[numberOfTouchedSlots++] = slot;
+                } if (shared < 0xFF) sharedTrigrams[slot] = (byte) (shared + 1);
+            }
+        } int[] slotsPerCount = new int[trigrams.length + 1]; // the number of touched slots sharing each number of trigrams
+        for (int i = 0; i < numberOfTouchedSlots; i++) slotsPerCount[Math.min(sharedTrigrams[touchedSlots[i]] & 0xFF, trigrams.length)]++;
+        int minShared = trigrams.length; // the fewest shared trigrams a slot needs to be a candidate
+        int candidatesAboveMinimum = slotsPerCount[minShared]; // the number of slots sharing at least minShared trigrams
+        while (minShared > 1 && candidatesAboveMinimum + slotsPerCount[minShared - 1] <= MAX_CANDIDATES) candidatesAboveMinimum += slotsPerCount[--minShared];
+        long[] ranked = new long[MAX_CANDIDATES]; // the edit distance of each close candidate in the high bits and its slot in the low bits
+        int numberOfRanked = 0; // the number of candidates within the edit distance
+        int numberOfCandidates = 0; // the number of candidates the edit distance was worked out for
+        for (int i = 0; i < numberOfTouchedSlots; i++) {
+            int slot = touchedSlots[i]; // the slot of the candidate
+            int shared = sharedTrigrams[slot] & 0xFF; // the trigrams the slot shares with the name
+            sharedTrigrams[slot] = 0;
+            if (shared < minShared || numberOfCandidates == MAX_CANDIDATES || normalizedNames[slot] == null) continue;
+            numberOfCandidates++;
+            int distance = getEditDistance(normalizedName, normalizedNames[slot], maxDistance); // the edits between the names
+            if (distance <= maxDistance) ranked[numberOfRanked++] = ((long) distance << 32) | slot;
+        } Arrays.sort(ranked, 0, numberOfRanked);
+        int[] matches = new int[Math.min(limit, numberOfRanked)]; // the closest slots
+        for (int i = 0; i < matches.length; i++) matches[i] = (int) ranked[i];
+        return matches;
+    }
+
+    /** Method Name: getEditDistance
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Works out the number of single character insertions, deletions and substitutions between two names, giving up early once every path is past the limit
+     * @Parameters first - the first name, second - the second name, maxDistance - the distance past which the exact value does not matter
+     * @Returns The edit distance, or maxDistance + 1 if it is larger than maxDistance, Data Type: Integer
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    private static int getEditDistance(String first, String second, int maxDistance) {
+        if (Math.abs(first.length() - second.length()) > maxDistance) return maxDistance + 1;
+        int[] previousRow = new int[second.length() + 1]; // the distances for the previous character of the first name
+        int[] currentRow = new int[second.length() + 1]; // the distances for the current character of the first name
+        for (int j = 0; j <= second.length(); j++) previousRow[j] = j;
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            int rowMinimum = i; // the smallest distance in the row
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previousRow[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1); // the distance if the characters are swapped
+                currentRow[j] = Math.min(substitution, Math.min(previousRow[j], currentRow[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, currentRow[j]);
+            } if (rowMinimum > maxDistance) return maxDistance + 1;
+            int[] swap = previousRow; // the row that is reused for the next character
+            previousRow = currentRow;
+            currentRow = swap;
+        } return Math.min(previousRow[second.length()], maxDistance + 1);
+    }
+
+    /** Method Name: suggest
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Finds the characters a user most likely meant, names that match without case come first, then names starting with the text, then similar names
+     * @Parameters text - the name or part of a name the user entered, limit - the most slots returned, nothing is found if it is below 1
+     * @Returns The slots of the suggested characters, Data Type: Integer[]
+     * Dependencies: LinkedHashSet
+     * Throws/Exceptions: N/A
+     */
+
+    public int[] suggest(String text, int limit) {
+        if (limit < 1) return new int[0];
+        LinkedHashSet<Integer> suggestions = new LinkedHashSet<>(); // the suggested slots in rank order without repeats
+        for (int slot : findIgnoringCase(text)) suggestions.add(slot);
+        for (int slot : findByPrefix(text, limit)) suggestions.add(slot);
+        for (int slot : findSimilar(text, limit)) suggestions.add(slot);
+        return suggestions.stream().limit(limit).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static class SlotList {
+
+        private int[] slots = new int[2]; // the slots in the list
+        private int size = 0; // the number of slots in the list
+
+        private void add(int slot) {
+            if (size == slots.length) slots = Arrays.copyOf(slots, size * 2);
+            slots[size++] = slot;
+        }
+
+        private void remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] != slot) continue;
+                slots[i] = slots[--size];
+                return;
+            }
+        }
+    }
+}
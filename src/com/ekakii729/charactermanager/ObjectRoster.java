@@ -0,0 +1,46 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Roster that keeps every character as its own object, so characters handed out are the ones stored and can be changed in place
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.util.Arrays;
+
+public class ObjectRoster extends AbstractRoster {
+
+    private Character[] slots; // the characters by slot, a deleted slot holds null
+
+    public ObjectRoster(int capacity) {
+        slots = new Character[Math.max(capacity, 0)];
+    }
+
+    protected void ensureCapacity(int capacity) {
+        if (capacity > slots.length) slots = Arrays.copyOf(slots, Math.max(capacity, Math.max(MIN_CAPACITY, slots.length * 2)));
+    }
+
+    protected void erase(int slot) {
+        slots[slot] = null;
+    }
+
+    protected void move(int fromSlot, int toSlot) {
+        slots[toSlot] = slots[fromSlot];
+        slots[fromSlot] = null;
+    }
+
+    public Character get(int slot) {
+        return slots[slot];
+    }
+
+    public void set(int slot, Character character) {
+        slots[slot] = character;
+    }
+
+    public int getStat(int slot, Stat stat) {
+        return slots[slot].getStat(stat);
+    }
+
+    public boolean isFree(int slot) {
+        return slots[slot] == null;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: The operations whose calls and latencies are measured, operations that only take tens of nanoseconds are timed on a sample of their calls so measuring them stays cheap
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+
+public enum Operation {
+    LOAD("Load", 1),
+    IMPORT("Import", 1),
+    SAVE("Save", 1),
+    LOOKUP("Lookup", 16),
+    ADD("Add", 1),
+    DELETE("Delete", 1),
+    READ_RECORD("Read record", 1),
+    WRITE_RECORD("Write record", 1),
+    FLUSH("Flush", 1);
+
+    private final String displayName; // the name of the operation in statistics
+    private final int samplingInterval; // one in this many calls is timed, every call is counted
+
+    Operation(String displayName, int samplingInterval) {
+        this.displayName = displayName;
+        this.samplingInterval = samplingInterval;
+    }
+
+    public int getSamplingInterval() {
+        return samplingInterval;
+    }
+
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Counts the calls of each operation and keeps a latency histogram of them, a call is measured with long start = metrics.start(Operation.LOAD) before it and metrics.stop(Operation.LOAD, start) after it. Counting uses LongAdders and quick operations are only timed on a sample of calls, so measuring adds a few nanoseconds to a call
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+public class OperationMetrics implements OperationMetricsMXBean {
+
+    private final static Operation[] OPERATIONS = Operation.values(); // every operation, indexed by ordinal
+    private final static long NOT_TIMED = Long.MIN_VALUE; // the start of a call that is counted but not timed
+    private final static String OBJECT_NAME = "com.ekakii729.charactermanager:type=OperationMetrics"; // the name the metrics are shown under in JMX
+    private final LongAdder[] calls; // the number of calls of each operation, indexed by ordinal
+    private final LatencyHistogram[] latencies; // the latencies of the timed calls of each operation, indexed by ordinal
+    private final boolean isEnabled; // whether calls are counted and timed at all
+
+    public OperationMetrics(boolean isEnabled) {
+        this.isEnabled = isEnabled;
+        calls = new LongAdder[OPERATIONS.length];
+        latencies = new LatencyHistogram[OPERATIONS.length];
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            calls[i] = new LongAdder();
+            latencies[i] = new LatencyHistogram();
+        }
+    }
+
+    /** Method Name: start
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Counts calls of an operation and decides whether to time them, operations with a sampling interval above 1 are only timed on that share of calls
+     * @Parameters operation - the operation being called, numberOfCalls - the number of calls made at once
+     * @Returns The time the calls started, to be passed to stop, Data Type: Long
+     * Dependencies: LongAdder, ThreadLocalRandom
+     * Throws/Exceptions: N/A
+     */
+
+    public long start(Operation operation, int numberOfCalls) {
+        if (!isEnabled) return NOT_TIMED;
+        calls[operation.ordinal()].add(numberOfCalls);
+        if (operation.getSamplingInterval() > 1 && ThreadLocalRandom.current().nextInt(operation.getSamplingInterval()) != 0) return NOT_TIMED;
+        return System.nanoTime();
+    }
+
+    public long start(Operation operation) {
+        return start(operation, 1);
+    }
+
+    /** Method Name: stop
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Records the latency of calls that were timed, calls made at once are each recorded with their share of the time
+     * @Parameters operation - the operation that was called, start - what start returned, numberOfCalls - the number of calls made at once
+     * @Returns N/A, Data Type: Void
+     * Dependencies: LatencyHistogram
+     * Throws/Exceptions: N/A
+     */
+
+    public void stop(Operation operation, long start, int numberOfCalls) {
+        if (start == NOT_TIMED || numberOfCalls <= 0) return;
+        latencies[operation.ordinal()].record((System.nanoTime() - start) / numberOfCalls, numberOfCalls);
+    }
+
+    public void stop(Operation operation, long start) {
+        stop(operation, start, 1);
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    public long getCalls(Operation operation) {
+        return calls[operation.ordinal()].sum();
+    }
+
+    public LatencyHistogram getLatencies(Operation operation) {
+        return latencies[operation.ordinal()];
+    }
+
+    public List<OperationStatistics> getStatistics() {
+        List<OperationStatistics> statistics = new ArrayList<>(); // the statistics of the operations that were called
+        for (Operation operation : OPERATIONS) if (getCalls(operation) > 0) statistics.add(new OperationStatistics(operation, getCalls(operation), getLatencies(operation)));
+        return statistics;
+    }
+
+    /** Method Name: getSummary
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets the statistics as a table with a row for each operation that has been called, latencies are shown in the unit that suits them
+     * @Parameters N/A
+     * @Returns The table, Data Type: String
+     * Dependencies: OperationStatistics
+     * Throws/Exceptions: N/A
+     */
+
+    public String getSummary() {
+        if (!isEnabled) return "Operation metrics are turned off.";
+        List<OperationStatistics> statistics = getStatistics(); // the statistics of the operations that were called
+        if (statistics.isEmpty()) return "No operations have been measured yet.";
+        StringBuilder summary = new StringBuilder(String.format("%-13s %10s %10s %10s %10s %10s %10s %10s %10s", "Operation", "Calls", "Timed", "Mean", "p50", "p90", "p99", "p99.9", "Max")); // the table being built
+        for (OperationStatistics operation : statistics) {
+            summary.append(String.format("\n%-13s %10d %10d %10s %10s %10s %10s %10s %10s", operation.getOperation(), operation.getCalls(), operation.getTimedCalls(), formatNanoseconds((long) operation.getMean()),
+                    formatNanoseconds(operation.getP50()), formatNanoseconds(operation.getP90()), formatNanoseconds(operation.getP99()), formatNanoseconds(operation.getP999()), formatNanoseconds(operation.getMax())));
+        } return summary.toString();
+    }
+
+    private static String formatNanoseconds(long nanoseconds) {
+        if (nanoseconds < 1_000) return nanoseconds + " ns";
+        if (nanoseconds < 1_000_000) return String.format("%.1f us", nanoseconds / 1e3);
+        if (nanoseconds < 1_000_000_000) return String.format("%.1f ms", nanoseconds / 1e6);
+        return String.format("%.2f s", nanoseconds / 1e9);
+    }
+
+    public void reset() {
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            calls[i].reset();
+            latencies[i].reset();
+        }
+    }
+
+    /** Method Name: registerMBean
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Shows the metrics in JMX, replacing the metrics registered before since only one set is shown at a time
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: MBeanServer, ObjectName
+     * Throws/Exceptions: JMException
+     */
+
+    public void registerMBean() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer(); // the JMX server of the program
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME); // the name the metrics are shown under
+            if (server.isRegistered(name)) server.unregisterMBean(name);
+            server.registerMBean(this, name);
+        } catch (JMException e) {
+            System.out.println("\nJMX ERROR --> " + e);
+        }
+    }
+}
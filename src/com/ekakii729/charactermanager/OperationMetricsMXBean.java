@@ -0,0 +1,50 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: What JMX shows of the operation metrics (ex. in JConsole under com.ekakii729.charactermanager, OperationMetrics)
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.util.List;
+
+public interface OperationMetricsMXBean {
+
+    /** Method Name: getStatistics
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets the calls and latencies of every operation that has been called
+     * @Parameters N/A
+     * @Returns The statistics of each operation, Data Type: List<OperationStatistics>
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    List<OperationStatistics> getStatistics();
+
+    /** Method Name: getSummary
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets the statistics as a table with a row for each operation that has been called
+     * @Parameters N/A
+     * @Returns The table, Data Type: String
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    String getSummary();
+
+    /** Method Name: reset
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Sets every counter and histogram back to zero
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    void reset();
+}
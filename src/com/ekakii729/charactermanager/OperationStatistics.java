@@ -0,0 +1,68 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: The calls and latencies of one operation at the moment they were read, every latency is in nanoseconds. JMX shows each of these as a row of the Statistics attribute
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+
+public class OperationStatistics {
+
+    private final String operation; // the name of the operation
+    private final long calls; // the number of calls made
+    private final long timedCalls; // the number of calls that were timed
+    private final double mean; // the mean latency of the timed calls
+    private final long p50; // the latency half of the timed calls were at or below
+    private final long p90; // the latency 90% of the timed calls were at or below
+    private final long p99; // the latency 99% of the timed calls were at or below
+    private final long p999; // the latency 99.9% of the timed calls were at or below
+    private final long max; // the highest latency of a timed call
+
+    public OperationStatistics(Operation operation, long calls, LatencyHistogram latencies) {
+        this.operation = operation.toString();
+        this.calls = calls;
+        timedCalls = latencies.getCount();
+        mean = latencies.getMean();
+        p50 = latencies.getValueAtPercentile(50);
+        p90 = latencies.getValueAtPercentile(90);
+        p99 = latencies.getValueAtPercentile(99);
+        p999 = latencies.getValueAtPercentile(99.9);
+        max = latencies.getMax();
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    public long getTimedCalls() {
+        return timedCalls;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public long getP50() {
+        return p50;
+    }
+
+    public long getP90() {
+        return p90;
+    }
+
+    public long getP99() {
+        return p99;
+    }
+
+    public long getP999() {
+        return p999;
+    }
+
+    public long getMax() {
+        return max;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Converts a text file of characters into a binary file using every core, each chunk of records is parsed on its own and written straight into its slots
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class ParallelTextImporter {
+
+    private final static int LINES_PER_RECORD = 11; // 11 lines in 1 record
+    private final static int RECORDS_PER_TASK = 4096; // the number of records a single task parses before it stops splitting
+    private final static long SCAN_WINDOW = 1L << 30; // the number of bytes of the text file mapped at once while finding records
+
+    /** Method Name: findRecordStarts
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Finds where each record of a text file starts by counting lines, blank lines between records are skipped the same way the sequential importer skips them
+     * @Parameters channel - the channel of the text file
+     * @Returns The offset of every record followed by the length of the file, Data Type: Long[]
+     * Dependencies: FileChannel, MappedByteBuffer
+     * Throws/Exceptions: IOException
+     */
+
+    private static long[] findRecordStarts(FileChannel channel) throws IOException {
+        long[] recordStarts = new long[1024]; // the offset of each record found so far
+        int numberOfRecords = 0; // the number of records found so far
+        int lineOfRecord = 0; // the line of the current record that is being scanned
+        long lineStart = 0; // the offset of the line that is being scanned
+        long fileLength = channel.size(); // the length of the text file
+        for (long windowStart = 0; windowStart < fileLength; windowStart += SCAN_WINDOW) {
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(SCAN_WINDOW, fileLength - windowStart)); // the part of the file being scanned
+            for (int i = 0; i < window.limit(); i++) {
+                if (window.get(i) != '\n') continue;
+                long lineEnd = windowStart + i; // the offset of the newline ending the line
+                boolean isBlank = lineEnd == lineStart || (lineEnd - lineStart == 1 && byteAt(channel, window, windowStart, lineStart) == '\r'); // whether the line has no characters
+                if (lineOfRecord > 0 || !isBlank) {
+                    if (lineOfRecord == 0) {
+                        if (numberOfRecords == recordStarts.length) recordStarts = Arrays.copyOf(recordStarts, recordStarts.length * 2);
+                        recordStarts[numberOfRecords++] = lineStart;
+                    } lineOfRecord = (lineOfRecord + 1) % LINES_PER_RECORD;
+                } lineStart = lineEnd + 1;
+            }
+        } if (lineStart < fileLength) {
+            if (lineOfRecord == 0) {
+                if (numberOfRecords == recordStarts.length) recordStarts = Arrays.copyOf(recordStarts, recordStarts.length + 1);
+                recordStarts[numberOfRecords++] = lineStart;
+            } lineOfRecord = (lineOfRecord + 1) % LINES_PER_RECORD;
+        } if (lineOfRecord != 0) throw new EOFException("Text file ended in the middle of a character");
+        recordStarts = Arrays.copyOf(recordStarts, numberOfRecords + 1);
+        recordStarts[numberOfRecords] = fileLength;
+        return recordStarts;
+    }
+
+    private static byte byteAt(FileChannel channel, MappedByteBuffer window, long windowStart, long offset) throws IOException {
+        if (offset >= windowStart) return window.get((int) (offset - windowStart));
+        ByteBuffer single = ByteBuffer.allocate(1); // holds the byte that is in the previous window
+        channel.read(single, offset);
+        return single.get(0);
+    }
+
+    /** Method Name: importFile
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Converts a text file into a binary file of the default format by parsing chunks of records in parallel, the binary file is only replaced, in one atomic rename, once every chunk has been written to disk
+     * @Parameters textFileName - the name of the text file, binaryFileName - the name of the binary file, pool - the pool the chunks are parsed on
+     * @Returns The number of characters that were imported, Data Type: Integer
+     * Dependencies: FileChannel, ForkJoinPool
+     * Throws/Exceptions: FileNotFoundException, IOException, IllegalArgumentException
+     */
+
+    public static int importFile(String textFileName, String binaryFileName, ForkJoinPool pool) throws IOException {
+        Path binaryFile = Paths.get(binaryFileName).toAbsolutePath(); // the binary file being replaced
+        Path importFile = binaryFile.resolveSibling(binaryFile.getFileName() + ".import"); // the file records are written to until the import is done
+        if (!new File(textFileName).isFile()) throw new FileNotFoundException(textFileName + " (No such file)");
+        int numberOfRecords; // the number of characters in the text file
+        try (FileChannel textChannel = FileChannel.open(Paths.get(textFileName), StandardOpenOption.READ); // reads the text file
+             FileChannel binaryChannel = FileChannel.open(importFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) { // writes the new binary file
+            RecordFormat format = RecordFormat.getDefault(); // the layout the records are saved in
+            long[] recordStarts = findRecordStarts(textChannel); // where each record starts in the text file
+            numberOfRecords = recordStarts.length - 1;
+            pool.invoke(new ImportTask(textChannel, binaryChannel, format, recordStarts, 0, numberOfRecords));
+            format.writeHeader(binaryChannel, numberOfRecords);
+            binaryChannel.force(true);
+        } catch (UncheckedIOException e) {
+            Files.deleteIfExists(importFile);
+            throw e.getCause();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(importFile);
+            throw e;
+        } Files.move(importFile, binaryFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return numberOfRecords;
+    }
+
+    @SuppressWarnings("serial") // a task is only ever run in the pool, never serialized
+    private static class ImportTask extends RecursiveAction {
+
+        private final FileChannel textChannel; // reads the text file
+        private final FileChannel binaryChannel; // writes the new binary file
+        private final RecordFormat format; // the layout the records are saved in
+        private final long[] recordStarts; // where each record starts in the text file
+        private final int firstRecord; // the first record this task imports
+        private final int endRecord; // the record after the last one this task imports
+
+        private ImportTask(FileChannel textChannel, FileChannel binaryChannel, RecordFormat format, long[] recordStarts, int firstRecord, int endRecord) {
+            this.textChannel = textChannel;
+            this.binaryChannel = binaryChannel;
+            this.format = format;
+            this.recordStarts = recordStarts;
+            this.firstRecord = firstRecord;
+            this.endRecord = endRecord;
+        }
+
+        /** Method Name: compute
+         * @Author Abhay Manoj
+         * @Date October 17, 2026
+         * @Modified October 17, 2026
+         * @Description Splits the records in half until the chunk is small, then parses the chunk and writes it to its slots in the binary file
+         * @Parameters N/A
+         * @Returns N/A, Data Type: Void
+         * Dependencies: TextImporter, FileChannel
+         * Throws/Exceptions: UncheckedIOException, IllegalArgumentException
+         */
+
+        protected void compute() {
+            if (endRecord - firstRecord > RECORDS_PER_TASK) {
+                int middleRecord = (firstRecord + endRecord) >>> 1; // where the records are split
+                invokeAll(new ImportTask(textChannel, binaryChannel, format, recordStarts, firstRecord, middleRecord), new ImportTask(textChannel, binaryChannel, format, recordStarts, middleRecord, endRecord));
+                return;
+            } try {
+                ByteBuffer text = ByteBuffer.allocate((int) (recordStarts[endRecord] - recordStarts[firstRecord])); // the text of the records in this chunk
+                while (text.hasRemaining()) if (textChannel.read(text, recordStarts[firstRecord] + text.position()) < 0) throw new EOFException("Text file ended while importing");
+                BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(text.array()), Charset.defaultCharset())); // reads the records of this chunk
+                ByteBuffer records = ByteBuffer.allocate((endRecord - firstRecord) * format.getRecordLength()); // the encoded records of this chunk
+                Character character = new Character(); // reused for every character in the chunk
+                for (int i = 0; i < endRecord - firstRecord; i++) {
+                    if (!TextImporter.readRecord(reader, character)) throw new EOFException("Text file ended while importing");
+                    format.writeRecord(character, records, i * format.getRecordLength());
+                } while (records.hasRemaining()) binaryChannel.write(records, format.getOffset(firstRecord) + records.position());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
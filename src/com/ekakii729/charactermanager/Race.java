@@ -0,0 +1,81 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: The races a character can be, each race carries its ability modifiers so changing race is a table lookup instead of a string switch
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+
+public enum Race {
+    // the order is the race code stored in compact records, so new races must be added at the end
+    HUMAN("Human", 0, 0, 0, 0, 0, 0),
+    ELF("Elf", 0, -2, 0, 0, 3, 0),
+    HALFLING("Halfling", 0, 1, 0, 0, 2, 0),
+    DWARF("Dwarf", 0, 3, 0, 0, 0, 0),
+    ORC("Orc", 3, 1, 0, 0, 0, 0),
+    GNOME("Gnome", -3, 0, 2, 1, 0, 0);
+
+    private final String displayName; // the name of the race in text files and menus
+    private final int[] modifiers; // the change to each ability compared to a human, in the order of Character.STRENGTH to Character.CHARISMA
+    private final static Race[] RACES = values(); // every race, indexed by race code
+    private final static int[][][] CHANGE_DELTAS = new int[RACES.length][RACES.length][]; // the change to each ability when going from one race to another
+
+    static {
+        for (Race oldRace : RACES) {
+            for (Race newRace : RACES) {
+                int[] delta = new int[Character.NUMBER_OF_ABILITIES]; // the change to each ability between the two races
+                for (int i = 0; i < delta.length; i++) delta[i] = newRace.modifiers[i] - oldRace.modifiers[i];
+                CHANGE_DELTAS[oldRace.ordinal()][newRace.ordinal()] = delta;
+            }
+        }
+    }
+
+    Race(String displayName, int strength, int constitution, int intelligence, int wisdom, int dexterity, int charisma) {
+        this.displayName = displayName;
+        modifiers = new int[] {strength, constitution, intelligence, wisdom, dexterity, charisma};
+    }
+
+    /** Method Name: applyChange
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Adjusts ability scores of a character of this race so they fit another race, by adding the precomputed difference of their modifiers
+     * @Parameters newRace - the race the character is changed to, abilities - the ability scores of the character
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    public void applyChange(Race newRace, int[] abilities) {
+        int[] delta = CHANGE_DELTAS[ordinal()][newRace.ordinal()]; // the change to each ability
+        for (int i = 0; i < delta.length; i++) abilities[i] += delta[i];
+    }
+
+    /** Method Name: fromName
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Finds the race with a name, names are case sensitive as they are in text files
+     * @Parameters name - the name of the race
+     * @Returns The race, or null if no race has that name, Data Type: Race
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    public static Race fromName(String name) {
+        for (Race race : RACES) if (race.displayName.equals(name)) return race;
+        return null;
+    }
+
+    public static Race fromCode(int code) {
+        return code >= 0 && code < RACES.length ? RACES[code] : null;
+    }
+
+    public int getCode() {
+        return ordinal();
+    }
+
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Character store that reads and writes each record with a single positional read or write of the channel of a RandomAccessFile, so threads working on different records do not share a seek pointer
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+public class RandomAccessCharacterStore implements CharacterStore {
+
+    private final RandomAccessFile randomAccessor; // accesses binary file
+    private final FileChannel channel; // reads and writes records at their position without moving the file pointer
+    private final RecordFormat format; // the layout of the records in the file
+    private volatile int numberOfRecords; // the number of records in the file
+
+    public RandomAccessCharacterStore(String fileName) throws IOException {
+        randomAccessor = new RandomAccessFile(fileName, "rw");
+        channel = randomAccessor.getChannel();
+        format = RecordFormat.open(channel);
+        numberOfRecords = format.countRecords(channel);
+    }
+
+    public int getNumberOfRecords() {
+        return numberOfRecords;
+    }
+
+    public synchronized void setNumberOfRecords(int numberOfRecords) throws IOException {
+        randomAccessor.setLength(format.getOffset(numberOfRecords));
+        this.numberOfRecords = numberOfRecords;
+        format.writeHeader(channel, numberOfRecords);
+    }
+
+    /** Method Name: readRecord
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Reads a record with one positional read, any number of threads can read at once
+     * @Parameters numberOfRecord - the number of the record, character - the character the values are assigned to
+     * @Returns N/A, Data Type: Void
+     * Dependencies: FileChannel, RecordFormat
+     * Throws/Exceptions: IOException
+     */
+
+    public void readRecord(int numberOfRecord, Character character) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(format.getRecordLength()); // the bytes of the record
+        long position = format.getOffset(numberOfRecord); // where the record starts in the file
+        while (record.hasRemaining()) {
+            if (channel.read(record, position + record.position()) < 0) throw new EOFException("Record " + numberOfRecord + " is past the end of the file");
+        } format.readRecord(record, 0, character);
+    }
+
+    /** Method Name: writeRecord
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Writes a record with one positional write, threads writing different records do not wait for each other unless the file grows
+     * @Parameters numberOfRecord - the number of the record, character - the character being written
+     * @Returns N/A, Data Type: Void
+     * Dependencies: FileChannel, RecordFormat
+     * Throws/Exceptions: IOException
+     */
+
+    public void writeRecord(int numberOfRecord, Character character) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(format.getRecordLength()); // the bytes of the record
+        format.writeRecord(character, record, 0);
+        writeBytes(record, format.getOffset(numberOfRecord));
+        growTo(numberOfRecord + 1);
+    }
+
+    /** Method Name: writeRecords
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Writes a run of records with a single seek and write
+     * @Parameters firstRecord - the number of the first record, characters - the characters being written, numberOfCharacters - the number of characters from the start of the array being written
+     * @Returns N/A, Data Type: Void
+     * Dependencies: RecordFormat, ByteBuffer
+     * Throws/Exceptions: IOException
+     */
+
+    public void writeRecords(int firstRecord, Character[] characters, int numberOfCharacters) throws IOException {
+        ByteBuffer run = ByteBuffer.allocate(numberOfCharacters * format.getRecordLength()); // the bytes of the run
+        for (int i = 0; i < numberOfCharacters; i++) format.writeRecord(characters[i], run, i * format.getRecordLength());
+        writeBytes(run, format.getOffset(firstRecord));
+        growTo(firstRecord + numberOfCharacters);
+    }
+
+    /** Method Name: writeBytes
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Writes the whole content of a buffer at a position of the file
+     * @Parameters bytes - the bytes being written, position - where they are written in the file
+     * @Returns N/A, Data Type: Void
+     * Dependencies: FileChannel
+     * Throws/Exceptions: IOException
+     */
+
+    private void writeBytes(ByteBuffer bytes, long position) throws IOException {
+        while (bytes.hasRemaining()) channel.write(bytes, position + bytes.position());
+    }
+
+    /** Method Name: growTo
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Updates the number of records in the header once a write has gone past the last record
+     * @Parameters minNumberOfRecords - the number of records the file holds at least
+     * @Returns N/A, Data Type: Void
+     * Dependencies: RecordFormat
+     * Throws/Exceptions: IOException
+     */
+
+    private void growTo(int minNumberOfRecords) throws IOException {
+        if (minNumberOfRecords <= numberOfRecords) return;
+        synchronized (this) {
+            if (minNumberOfRecords <= numberOfRecords) return;
+            numberOfRecords = minNumberOfRecords;
+            format.writeHeader(channel, numberOfRecords);
+        }
+    }
+
+    public void writeTombstone(int numberOfRecord) throws IOException {
+        writeRecord(numberOfRecord, Character.createTombstone());
+    }
+
+    public void flush() throws IOException {
+        randomAccessor.getFD().sync();
+    }
+
+    public void close() throws IOException {
+        randomAccessor.close();
+    }
+
+    public RecordFormat getFormat() {
+        return format;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Bounded cache of characters decoded from the binary file, the least recently used character is evicted once it is full and every lookup is counted so the capacity can be tuned, its methods are synchronized so the counters can be read while other threads use it
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class RecordCache {
+
+    private final LinkedHashMap<Integer, Character> characters; // the cached characters by slot, least recently used first
+    private final HashMap<Integer, Character> charactersBySlot; // the same characters, read without changing which one was used last
+    private int capacity; // the most characters that are kept
+    private long hits; // the number of lookups that found their character
+    private long misses; // the number of lookups that did not find their character
+    private long evictions; // the number of characters dropped to make room for others
+
+    public RecordCache(int capacity) {
+        this.capacity = Math.max(capacity, 1);
+        characters = new LinkedHashMap<>(16, 0.75f, true) {
+            protected boolean removeEldestEntry(Map.Entry<Integer, Character> eldest) {
+                if (size() <= RecordCache.this.capacity) return false;
+                charactersBySlot.remove(eldest.getKey());
+                evictions++;
+                return true;
+            }
+        };
+        charactersBySlot = new HashMap<>();
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    /** Method Name: get
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets the cached character of a slot and marks it as the most recently used, the lookup is counted as a hit or a miss
+     * @Parameters slot - the slot of the character
+     * @Returns The character, or null if it is not cached, Data Type: Character
+     * Dependencies: LinkedHashMap
+     * Throws/Exceptions: N/A
+     */
+
+    public synchronized Character get(int slot) {
+        Character character = characters.get(slot); // the cached character
+        if (character == null) misses++;
+        else hits++;
+        return character;
+    }
+
+    /** Method Name: peek
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets the cached character of a slot without counting the lookup or marking it as used, so scans over every slot neither swamp the counters of the real lookups nor change which characters are evicted
+     * @Parameters slot - the slot of the character
+     * @Returns The character, or null if it is not cached, Data Type: Character
+     * Dependencies: HashMap
+     * Throws/Exceptions: N/A
+     */
+
+    public synchronized Character peek(int slot) {
+        return charactersBySlot.get(slot);
+    }
+
+    /** Method Name: put
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Caches the character of a slot, replacing the one cached before, the least recently used character is evicted if the cache is full
+     * @Parameters slot - the slot of the character, character - the character
+     * @Returns N/A, Data Type: Void
+     * Dependencies: LinkedHashMap
+     * Throws/Exceptions: N/A
+     */
+
+    public synchronized void put(int slot, Character character) {
+        charactersBySlot.put(slot, character);
+        characters.put(slot, character);
+    }
+
+    public synchronized void remove(int slot) {
+        characters.remove(slot);
+        charactersBySlot.remove(slot);
+    }
+
+    public synchronized void clear() {
+        characters.clear();
+        charactersBySlot.clear();
+    }
+
+    /** Method Name: setCapacity
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Changes the most characters that are kept, the least recently used characters are evicted until the cache fits
+     * @Parameters capacity - the new capacity, at least 1
+     * @Returns N/A, Data Type: Void
+     * Dependencies: LinkedHashMap
+     * Throws/Exceptions: N/A
+     */
+
+    public synchronized void setCapacity(int capacity) {
+        this.capacity = Math.max(capacity, 1);
+        var iterator = characters.keySet().iterator(); // walks the slots from the least recently used
+        while (characters.size() > this.capacity) {
+            charactersBySlot.remove(iterator.next());
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    /** Method Name: resetCounters
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Sets the hit, miss and eviction counters back to zero
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    public synchronized void resetCounters() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    /** Method Name: getHitRatio
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets the share of lookups that found their character
+     * @Parameters N/A
+     * @Returns The hit ratio from 0 to 1, or 0 if nothing was looked up, Data Type: Double
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    public synchronized double getHitRatio() {
+        return hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+    }
+
+    public synchronized int size() {
+        return characters.size();
+    }
+
+    public synchronized int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized String toString() {
+        return String.format("%d/%d cached, %d hit(s), %d miss(es), %d eviction(s), %.1f%% hit ratio", size(), capacity, hits, misses, evictions, getHitRatio() * 100);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: The layouts a binary file of characters can be stored in, version 1 is the original header-less 152 byte record and version 2 is a compact record behind a file header
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+public enum RecordFormat {
+
+    V1(1, 0, (int) Character.getRecordLength()) {
+        public void writeRecord(Character character, ByteBuffer buffer, int offset) {
+            character.writeRecord(buffer, offset);
+        }
+
+        public void readRecord(ByteBuffer buffer, int offset, Character character) {
+            character.readRecord(buffer, offset);
+        }
+
+        public boolean isTombstone(ByteBuffer buffer, int offset) {
+            return Character.isTombstoneRecord(buffer, offset);
+        }
+    },
+
+    V2(2, 16, Character.getCompactRecordLength()) {
+        public void writeRecord(Character character, ByteBuffer buffer, int offset) {
+            character.writeCompactRecord(buffer, offset);
+        }
+
+        public void readRecord(ByteBuffer buffer, int offset, Character character) {
+            character.readCompactRecord(buffer, offset);
+        }
+
+        public boolean isTombstone(ByteBuffer buffer, int offset) {
+            return Character.isCompactTombstoneRecord(buffer, offset);
+        }
+    };
+
+    private final int version; // the version number stored in the file header
+    private final int headerLength; // the number of bytes before the first record
+    private final int recordLength; // the number of bytes in each record
+    private final static int MAGIC = 0x444E4443; // the first bytes of a file with a header ("DNDC")
+
+    RecordFormat(int version, int headerLength, int recordLength) {
+        this.version = version;
+        this.headerLength = headerLength;
+        this.recordLength = recordLength;
+    }
+
+    /** Method Name: writeRecord
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Puts a character into a buffer using the record layout of this format
+     * @Parameters character - the character being written, buffer - the buffer being written to, offset - where the record starts in the buffer
+     * @Returns N/A, Data Type: Void
+     * Dependencies: ByteBuffer
+     * Throws/Exceptions: N/A
+     */
+
+    public abstract void writeRecord(Character character, ByteBuffer buffer, int offset);
+
+    /** Method Name: readRecord
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets a character out of a buffer using the record layout of this format
+     * @Parameters buffer - the buffer being read, offset - where the record starts in the buffer, character - the character the values are assigned to
+     * @Returns N/A, Data Type: Void
+     * Dependencies: ByteBuffer
+     * Throws/Exceptions: N/A
+     */
+
+    public abstract void readRecord(ByteBuffer buffer, int offset, Character character);
+
+    /** Method Name: isTombstone
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Checks if a record in a buffer marks a deleted character without decoding it
+     * @Parameters buffer - the buffer being read, offset - where the record starts in the buffer
+     * @Returns Whether the record is a tombstone, Data Type: Boolean
+     * Dependencies: ByteBuffer
+     * Throws/Exceptions: N/A
+     */
+
+    public abstract boolean isTombstone(ByteBuffer buffer, int offset);
+
+    /** Method Name: writeHeader
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Writes the file header (magic, version, record length and record count) to the start of a file, formats without a header write nothing
+     * @Parameters channel - the channel of the binary file, numberOfRecords - the number of records in the file
+     * @Returns N/A, Data Type: Void
+     * Dependencies: FileChannel, ByteBuffer
+     * Throws/Exceptions: IOException
+     */
+
+    public void writeHeader(FileChannel channel, int numberOfRecords) throws IOException {
+        if (headerLength == 0) return;
+        ByteBuffer header = ByteBuffer.allocate(headerLength); // the bytes of the header
+        header.putInt(0, MAGIC);
+        header.putShort(4, (short) version);
+        header.putShort(6, (short) recordLength);
+        header.putInt(8, numberOfRecords);
+        while (header.hasRemaining()) channel.write(header, header.position());
+    }
+
+    /** Method Name: countRecords
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets the number of records in a file of this format, the record count in the header is not trusted past the end of the file
+     * @Parameters channel - the channel of the binary file
+     * @Returns The number of records, Data Type: Integer
+     * Dependencies: FileChannel, ByteBuffer
+     * Throws/Exceptions: IOException
+     */
+
+    public int countRecords(FileChannel channel) throws IOException {
+        long recordsInFile = Math.max(0, channel.size() - headerLength) / recordLength; // the number of complete records after the header
+        if (headerLength == 0) return (int) recordsInFile;
+        ByteBuffer count = ByteBuffer.allocate(Integer.BYTES); // holds the record count of the header
+        while (count.hasRemaining()) if (channel.read(count, 8 + count.position()) < 0) return 0;
+        return (int) Math.min(recordsInFile, count.getInt(0));
+    }
+
+    /** Method Name: detect
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Works out the format of a binary file from its header, a file without a header is a legacy version 1 file
+     * @Parameters channel - the channel of the binary file
+     * @Returns The format of the file, or null if the file is empty, Data Type: RecordFormat
+     * Dependencies: FileChannel, ByteBuffer
+     * Throws/Exceptions: IOException
+     */
+
+    public static RecordFormat detect(FileChannel channel) throws IOException {
+        if (channel.size() == 0) return null;
+        ByteBuffer start = ByteBuffer.allocate(Integer.BYTES + Short.BYTES); // holds the magic and version of the header
+        while (start.hasRemaining()) if (channel.read(start, start.position()) < 0) return V1;
+        if (start.getInt(0) != MAGIC) return V1;
+        for (RecordFormat format : values()) if (format.headerLength > 0 && format.version == start.getShort(4)) return format;
+        throw new IOException("Unsupported binary file version " + start.getShort(4));
+    }
+
+    /** Method Name: open
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Works out the format of a binary file, an empty file is given the default format and its header
+     * @Parameters channel - the channel of the binary file
+     * @Returns The format of the file, Data Type: RecordFormat
+     * Dependencies: FileChannel
+     * Throws/Exceptions: IOException
+     */
+
+    public static RecordFormat open(FileChannel channel) throws IOException {
+        RecordFormat format = detect(channel); // the format the file is already in
+        if (format != null) return format;
+        getDefault().writeHeader(channel, 0);
+        return getDefault();
+    }
+
+    /** Method Name: getDefault
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets the format new binary files are written in, version 2 unless charactermanager.recordFormat says otherwise
+     * @Parameters N/A
+     * @Returns The default format, Data Type: RecordFormat
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    public static RecordFormat getDefault() {
+        return valueOf(System.getProperty("charactermanager.recordFormat", V2.name()));
+    }
+
+    public long getOffset(int numberOfRecord) {
+        return headerLength + (long) numberOfRecord * recordLength;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public int getHeaderLength() {
+        return headerLength;
+    }
+
+    public int getRecordLength() {
+        return recordLength;
+    }
+}
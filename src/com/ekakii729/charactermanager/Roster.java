@@ -0,0 +1,169 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Growable list of characters where each character keeps the slot it has in the binary file, deleted slots are reused by new characters
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+
+public interface Roster {
+
+    /** Method Name: add
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Adds a character to the most recently freed slot, or to a new slot at the end if none are free
+     * @Parameters character - the character to be added
+     * @Returns The slot the character was put in, Data Type: Integer
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    int add(Character character);
+
+    /** Method Name: append
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Adds a slot to the end of the roster, a null character marks the new slot as deleted
+     * @Parameters character - the character in the new slot, or null
+     * @Returns The new slot, Data Type: Integer
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    int append(Character character);
+
+    /** Method Name: remove
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Deletes the character in a slot, leaving the slot free for the next character that is added
+     * @Parameters slot - the slot of the character
+     * @Returns The character that was deleted, or null if the slot was already free, Data Type: Character
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    Character remove(int slot);
+
+    /** Method Name: get
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets the character in a slot. A roster may hand out a copy, so changes to it are only kept once they are passed to set
+     * @Parameters slot - the slot of the character
+     * @Returns The character, or null if the slot is free, Data Type: Character
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    Character get(int slot);
+
+    /** Method Name: set
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Stores a changed character back into the slot it was taken from
+     * @Parameters slot - the slot of the character, character - the changed character
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    void set(int slot, Character character);
+
+    /** Method Name: getStat
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets one stat of the character in a slot without building the whole character
+     * @Parameters slot - the slot of the character, stat - the stat being read
+     * @Returns The value of the stat, Data Type: Integer
+     * Dependencies: Stat
+     * Throws/Exceptions: N/A
+     */
+
+    int getStat(int slot, Stat stat);
+
+    /** Method Name: sum
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Adds up a stat over every character in the roster
+     * @Parameters stat - the stat being added up
+     * @Returns The total of the stat, Data Type: Long
+     * Dependencies: Stat
+     * Throws/Exceptions: N/A
+     */
+
+    long sum(Stat stat);
+
+    /** Method Name: min
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Finds the lowest value of a stat over every character in the roster
+     * @Parameters stat - the stat being compared
+     * @Returns The lowest value, or Integer.MAX_VALUE if the roster is empty, Data Type: Integer
+     * Dependencies: Stat
+     * Throws/Exceptions: N/A
+     */
+
+    int min(Stat stat);
+
+    /** Method Name: max
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Finds the highest value of a stat over every character in the roster
+     * @Parameters stat - the stat being compared
+     * @Returns The highest value, or Integer.MIN_VALUE if the roster is empty, Data Type: Integer
+     * Dependencies: Stat
+     * Throws/Exceptions: N/A
+     */
+
+    int max(Stat stat);
+
+    void clear();
+
+    void compact();
+
+    /** Method Name: markSaved
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Called once every slot has been written to the binary file, a roster that reads characters from the file can let go of the ones it was keeping in memory
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    default void markSaved() {
+    }
+
+    /** Method Name: markWritten
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Called once the character in a slot has been written to the binary file, a roster that reads characters from the file can let go of that one
+     * @Parameters slot - the slot that was written
+     * @Returns N/A, Data Type: Void
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    default void markWritten(int slot) {
+    }
+
+    Character[] toArray();
+
+    boolean isFree(int slot);
+
+    int getNumberOfSlots();
+
+    int getNumberOfFreeSlots();
+
+    int size();
+}
@@ -0,0 +1,121 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Keeps the slots of characters grouped by race, class and level, so a query only has to look at the characters in the groups it asks for
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.TreeMap;
+
+public class SecondaryIndex {
+
+    private final BitSet[] slotsByRace; // the slots of the characters of each race, indexed by race code
+    private final BitSet[] slotsByClass; // the slots of the characters of each class, indexed by class code
+    private final TreeMap<Integer, BitSet> slotsByLevel; // the slots of the characters at each level
+    private final BitSet indexedSlots; // every slot that is in the index
+    private byte[] indexedRaceCodes; // the race code each slot was indexed under, -1 for an unknown race
+    private byte[] indexedClassCodes; // the class code each slot was indexed under, -1 for an unknown class
+    private int[] indexedLevels; // the level each slot was indexed under
+
+    public SecondaryIndex() {
+        slotsByRace = new BitSet[Race.values().length];
+        slotsByClass = new BitSet[CharacterClass.values().length];
+        for (int i = 0; i < slotsByRace.length; i++) slotsByRace[i] = new BitSet();
+        for (int i = 0; i < slotsByClass.length; i++) slotsByClass[i] = new BitSet();
+        slotsByLevel = new TreeMap<>();
+        indexedSlots = new BitSet();
+        indexedRaceCodes = new byte[0];
+        indexedClassCodes = new byte[0];
+        indexedLevels = new int[0];
+    }
+
+    /** Method Name: update
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Puts a slot into the groups of its character, taking it out of the groups it was in before
+     * @Parameters slot - the slot of the character, character - the character in the slot
+     * @Returns N/A, Data Type: Void
+     * Dependencies: BitSet, TreeMap
+     * Throws/Exceptions: N/A
+     */
+
+    public void update(int slot, Character character) {
+        remove(slot);
+        if (slot >= indexedLevels.length) {
+            int newCapacity = Math.max(slot + 1, Math.max(16, indexedLevels.length * 2)); // the number of slots after growing
+            indexedRaceCodes = Arrays.copyOf(indexedRaceCodes, newCapacity);
+            indexedClassCodes = Arrays.copyOf(indexedClassCodes, newCapacity);
+            indexedLevels = Arrays.copyOf(indexedLevels, newCapacity);
+        } indexedRaceCodes[slot] = (byte) (character.getRace() == null ? -1 : character.getRace().getCode());
+        indexedClassCodes[slot] = (byte) (character.getClassOfCharacter() == null ? -1 : character.getClassOfCharacter().getCode());
+        indexedLevels[slot] = character.getLevel();
+        if (indexedRaceCodes[slot] >= 0) slotsByRace[indexedRaceCodes[slot]].set(slot);
+        if (indexedClassCodes[slot] >= 0) slotsByClass[indexedClassCodes[slot]].set(slot);
+        slotsByLevel.computeIfAbsent(indexedLevels[slot], level -> new BitSet()).set(slot);
+        indexedSlots.set(slot);
+    }
+
+    /** Method Name: remove
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Takes a slot out of every group it is in, a level with no slots left is dropped
+     * @Parameters slot - the slot being removed
+     * @Returns N/A, Data Type: Void
+     * Dependencies: BitSet, TreeMap
+     * Throws/Exceptions: N/A
+     */
+
+    public void remove(int slot) {
+        if (!indexedSlots.get(slot)) return;
+        if (indexedRaceCodes[slot] >= 0) slotsByRace[indexedRaceCodes[slot]].clear(slot);
+        if (indexedClassCodes[slot] >= 0) slotsByClass[indexedClassCodes[slot]].clear(slot);
+        BitSet levelSlots = slotsByLevel.get(indexedLevels[slot]); // the slots at the level the slot was indexed under
+        levelSlots.clear(slot);
+        if (levelSlots.isEmpty()) slotsByLevel.remove(indexedLevels[slot]);
+        indexedSlots.clear(slot);
+    }
+
+    /** Method Name: rebuild
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Clears the index and fills it again with every character of a roster
+     * @Parameters characters - the roster being indexed
+     * @Returns N/A, Data Type: Void
+     * Dependencies: Roster
+     * Throws/Exceptions: N/A
+     */
+
+    public void rebuild(Roster characters) {
+        for (BitSet slots : slotsByRace) slots.clear();
+        for (BitSet slots : slotsByClass) slots.clear();
+        slotsByLevel.clear();
+        indexedSlots.clear();
+        for (int i = 0; i < characters.getNumberOfSlots(); i++) if (!characters.isFree(i)) update(i, characters.get(i));
+    }
+
+    /** Method Name: findCandidates
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Finds the slots that pass the race, class and level conditions of a query, the other conditions still have to be checked on each slot
+     * @Parameters race - the race asked for, or null for any, classOfCharacter - the class asked for, or null for any, minLevel - the lowest level asked for, maxLevel - the highest level asked for
+     * @Returns The slots that can match the query, Data Type: BitSet
+     * Dependencies: BitSet, TreeMap
+     * Throws/Exceptions: N/A
+     */
+
+    public BitSet findCandidates(Race race, CharacterClass classOfCharacter, int minLevel, int maxLevel) {
+        BitSet candidates = (BitSet) (race != null ? slotsByRace[race.getCode()] : classOfCharacter != null ? slotsByClass[classOfCharacter.getCode()] : indexedSlots).clone(); // the slots that pass every condition so far
+        if (race != null && classOfCharacter != null) candidates.and(slotsByClass[classOfCharacter.getCode()]);
+        if (minLevel > Integer.MIN_VALUE || maxLevel < Integer.MAX_VALUE) {
+            BitSet levelSlots = new BitSet(); // the slots in the level range
+            if (minLevel <= maxLevel) for (BitSet slots : slotsByLevel.subMap(minLevel, true, maxLevel, true).values()) levelSlots.or(slots);
+            candidates.and(levelSlots);
+        } return candidates;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: The numeric stats of a character, used to pick a column of a roster when scanning or totalling a stat
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+
+public enum Stat {
+    // the order matches the numbers of a binary record, level and hit points followed by the abilities from Character.STRENGTH to Character.CHARISMA
+    LEVEL("Level"),
+    HIT_POINTS("HitPoints"),
+    STRENGTH("Strength"),
+    CONSTITUTION("Constitution"),
+    INTELLIGENCE("Intelligence"),
+    WISDOM("Wisdom"),
+    DEXTERITY("Dexterity"),
+    CHARISMA("Charisma");
+
+    private final String displayName; // the name of the stat in menus
+    private final static int FIRST_ABILITY = 2; // the ordinal of the first ability score
+
+    Stat(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /** Method Name: getAbilityIndex
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets where this stat is kept in the ability scores of a character
+     * @Parameters N/A
+     * @Returns The index of the ability, or -1 for level and hit points, Data Type: Integer
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    public int getAbilityIndex() {
+        return ordinal() < FIRST_ABILITY ? -1 : ordinal() - FIRST_ABILITY;
+    }
+
+    public static Stat fromName(String name) {
+        for (Stat stat : values()) if (stat.displayName.equalsIgnoreCase(name)) return stat;
+        return null;
+    }
+
+    public String toString() {
+        return displayName;
+    }
+}
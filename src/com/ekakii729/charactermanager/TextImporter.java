@@ -0,0 +1,98 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Converts a text file of characters into a binary file in a single pass, writing each record as soon as it is read
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+public class TextImporter {
+
+    private final static int RECORDS_PER_CHUNK = 8192; // the number of records written with a single system call
+
+    /** Method Name: readRecord
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Reads the 11 lines of one character from a text file into a character
+     * @Parameters reader - used to access the text file, character - the character the values are assigned to
+     * @Returns Whether a record was read, false once the end of the file is reached, Data Type: Boolean
+     * Dependencies: BufferedReader
+     * Throws/Exceptions: IOException, IllegalArgumentException
+     */
+
+    public static boolean readRecord(BufferedReader reader, Character character) throws IOException {
+        String name = reader.readLine(); // the first line of the record
+        while (name != null && name.isEmpty()) name = reader.readLine();
+        if (name == null) return false;
+        character.setName(name);
+        character.setRace(readLine(reader));
+        character.setClassOfCharacter(readLine(reader));
+        character.setLevel(Integer.parseInt(readLine(reader)));
+        character.setHitPoints(Integer.parseInt(readLine(reader)));
+        character.setStrength(Integer.parseInt(readLine(reader)));
+        character.setConstitution(Integer.parseInt(readLine(reader)));
+        character.setIntelligence(Integer.parseInt(readLine(reader)));
+        character.setWisdom(Integer.parseInt(readLine(reader)));
+        character.setDexterity(Integer.parseInt(readLine(reader)));
+        character.setCharisma(Integer.parseInt(readLine(reader)));
+        return true;
+    }
+
+    private static String readLine(BufferedReader reader) throws IOException {
+        String line = reader.readLine(); // the next line of the record
+        if (line == null) throw new EOFException("Text file ended in the middle of a character");
+        return line;
+    }
+
+    /** Method Name: importFile
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Converts a text file into a binary file of the default format, only one character and one buffer of records are held in memory at a time. The binary file is only replaced, in one atomic rename, once the whole text file has been read and written to disk
+     * @Parameters textFileName - the name of the text file, binaryFileName - the name of the binary file
+     * @Returns The number of characters that were imported, Data Type: Integer
+     * Dependencies: BufferedReader, FileReader, FileChannel, ByteBuffer
+     * Throws/Exceptions: FileNotFoundException, IOException, IllegalArgumentException
+     */
+
+    public static int importFile(String textFileName, String binaryFileName) throws IOException {
+        Path binaryFile = Paths.get(binaryFileName).toAbsolutePath(); // the binary file being replaced
+        Path importFile = binaryFile.resolveSibling(binaryFile.getFileName() + ".import"); // the file records are written to until the import is done
+        int numberOfRecords = 0; // the number of characters imported so far
+        try (BufferedReader reader = new BufferedReader(new FileReader(textFileName), 1 << 16); // used to access the text file
+             FileChannel channel = FileChannel.open(importFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) { // writes the new binary file
+            RecordFormat format = RecordFormat.getDefault(); // the layout the records are saved in
+            int recordLength = format.getRecordLength(); // the length of a record in bytes
+            ByteBuffer chunk = ByteBuffer.allocateDirect(RECORDS_PER_CHUNK * recordLength); // holds the records written by one system call
+            Character character = new Character(); // reused for every character in the file
+            channel.position(format.getHeaderLength());
+            while (readRecord(reader, character)) {
+                if (!chunk.hasRemaining()) writeChunk(channel, chunk);
+                format.writeRecord(character, chunk, chunk.position());
+                chunk.position(chunk.position() + recordLength);
+                numberOfRecords++;
+            } writeChunk(channel, chunk);
+            format.writeHeader(channel, numberOfRecords);
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(importFile);
+            throw e;
+        } Files.move(importFile, binaryFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return numberOfRecords;
+    }
+
+    private static void writeChunk(FileChannel channel, ByteBuffer chunk) throws IOException {
+        chunk.flip();
+        while (chunk.hasRemaining()) channel.write(chunk);
+        chunk.clear();
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: An append only log of record writes kept next to a binary file, every write is committed to the log before the binary file is changed so a crash can be repaired by writing the log again
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+public class WriteAheadLog implements Closeable {
+
+    private final FileChannel channel; // accesses the log file
+    private final RecordFormat format; // the layout the records are logged in
+    private final int entryLength; // the length of a logged record write in bytes
+    private final ByteBuffer pendingEntries; // the entries appended since the last commit
+    private final CRC32 checksum; // works out the checksum of each entry
+    private long length; // the number of bytes in the log file
+    private final static int MAGIC = 0x4457414C; // the first bytes of a log file ("DWAL")
+    private final static int VERSION = 1; // the version of the log layout
+    private final static int HEADER_LENGTH = 8; // magic, log version and record format version
+    private final static byte RECORD_ENTRY = 1; // marks an entry that writes a character to a record
+    private final static byte TOMBSTONE_ENTRY = 2; // marks an entry that deletes a record
+    private final static int ENTRY_OVERHEAD = 1 + Integer.BYTES + Integer.BYTES; // the type, the record number and the checksum of an entry
+
+    public WriteAheadLog(File logFile, RecordFormat format, int entriesPerCommit) throws IOException {
+        this.format = format;
+        entryLength = ENTRY_OVERHEAD + format.getRecordLength();
+        pendingEntries = ByteBuffer.allocateDirect(entriesPerCommit * entryLength);
+        checksum = new CRC32();
+        channel = FileChannel.open(logFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        reset();
+    }
+
+    /** Method Name: getLogFile
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Gets the log file that belongs to a binary file
+     * @Parameters binaryFileName - the name of the binary file
+     * @Returns The log file, Data Type: File
+     * Dependencies: File
+     * Throws/Exceptions: N/A
+     */
+
+    public static File getLogFile(String binaryFileName) {
+        return new File(binaryFileName + ".wal");
+    }
+
+    /** Method Name: append
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Adds a record write to the entries of the next commit, the entry is only safe once it has been committed
+     * @Parameters numberOfRecord - the number of the record, character - the character being written, or null to delete the record
+     * @Returns N/A, Data Type: Void
+     * Dependencies: ByteBuffer, CRC32
+     * Throws/Exceptions: IllegalStateException
+     */
+
+    public void append(int numberOfRecord, Character character) {
+        if (isFull()) throw new IllegalStateException("The log has to be committed before more entries are appended.");
+        int start = pendingEntries.position(); // where the entry starts in the buffer
+        pendingEntries.put(start, character == null ? TOMBSTONE_ENTRY : RECORD_ENTRY);
+        pendingEntries.putInt(start + 1, numberOfRecord);
+        if (character == null) {
+            for (int i = 0; i < format.getRecordLength(); i++) pendingEntries.put(start + 5 + i, (byte) 0);
+        } else format.writeRecord(character, pendingEntries, start + 5);
+        checksum.reset();
+        checksum.update(pendingEntries.duplicate().position(start).limit(start + entryLength - Integer.BYTES));
+        pendingEntries.putInt(start + entryLength - Integer.BYTES, (int) checksum.getValue());
+        pendingEntries.position(start + entryLength);
+    }
+
+    /** Method Name: commit
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Appends the pending entries to the log file and forces them to disk with one sync for the whole group, then makes their writes to the store
+     * @Parameters store - the store of the binary file the log belongs to
+     * @Returns The number of entries committed, Data Type: Integer
+     * Dependencies: FileChannel, CharacterStore
+     * Throws/Exceptions: IOException
+     */
+
+    public int commit(CharacterStore store) throws IOException {
+        if (pendingEntries.position() == 0) return 0;
+        pendingEntries.flip();
+        while (pendingEntries.hasRemaining()) length += channel.write(pendingEntries, length);
+        channel.force(false);
+        pendingEntries.rewind();
+        int numberOfEntries = applyEntries(pendingEntries, format, store); // the number of entries written to the store
+        pendingEntries.clear();
+        return numberOfEntries;
+    }
+
+    /** Method Name: reset
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Empties the log file, only safe once every committed write has been forced onto the disk by the store
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: FileChannel, ByteBuffer
+     * Throws/Exceptions: IOException
+     */
+
+    public void reset() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH); // the bytes of the header
+        header.putInt(0, MAGIC);
+        header.putShort(4, (short) VERSION);
+        header.putShort(6, (short) format.getVersion());
+        channel.truncate(0);
+        while (header.hasRemaining()) channel.write(header, header.position());
+        channel.force(false);
+        length = HEADER_LENGTH;
+    }
+
+    /** Method Name: replay
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Writes every complete entry of a log file to a store and forces the store to disk, the log stops at the first entry with a bad checksum since that entry was never committed
+     * @Parameters logFile - the log file, store - the store of the binary file the log belongs to
+     * @Returns The number of entries written to the store, Data Type: Integer
+     * Dependencies: FileChannel, ByteBuffer, RecordFormat
+     * Throws/Exceptions: IOException
+     */
+
+    public static int replay(File logFile, CharacterStore store) throws IOException {
+        if (logFile.length() <= HEADER_LENGTH) return 0;
+        ByteBuffer entries = ByteBuffer.wrap(Files.readAllBytes(logFile.toPath())); // the content of the log file
+        if (entries.getInt(0) != MAGIC || entries.getShort(4) != VERSION) throw new IOException("Unsupported write-ahead log " + logFile);
+        RecordFormat format = null; // the layout the records were logged in
+        for (RecordFormat candidate : RecordFormat.values()) if (candidate.getVersion() == entries.getShort(6)) format = candidate;
+        if (format == null) throw new IOException("Unsupported record format in write-ahead log " + logFile);
+        entries.position(HEADER_LENGTH);
+        int numberOfEntries = applyEntries(entries, format, store); // the number of entries written to the store
+        store.flush();
+        return numberOfEntries;
+    }
+
+    /** Method Name: recover
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Repairs a binary file left behind by a crash by replaying its log, then deletes the log
+     * @Parameters binaryFileName - the name of the binary file
+     * @Returns The number of entries written to the binary file, Data Type: Integer
+     * Dependencies: RandomAccessCharacterStore
+     * Throws/Exceptions: IOException
+     */
+
+    public static int recover(String binaryFileName) throws IOException {
+        File logFile = getLogFile(binaryFileName); // the log of the binary file
+        if (!logFile.exists()) return 0;
+        int numberOfEntries; // the number of entries written to the binary file
+        try (CharacterStore store = new RandomAccessCharacterStore(binaryFileName)) { // accesses binary file
+            numberOfEntries = replay(logFile, store);
+        } Files.delete(logFile.toPath());
+        return numberOfEntries;
+    }
+
+    /** Method Name: applyEntries
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Makes the writes of the entries from the position of a buffer to its limit, stopping at a cut off entry or one with a bad checksum
+     * @Parameters entries - the buffer holding the entries, format - the layout the records were logged in, store - the store the writes are made to
+     * @Returns The number of entries written to the store, Data Type: Integer
+     * Dependencies: CRC32, CharacterStore
+     * Throws/Exceptions: IOException
+     */
+
+    private static int applyEntries(ByteBuffer entries, RecordFormat format, CharacterStore store) throws IOException {
+        int entryLength = ENTRY_OVERHEAD + format.getRecordLength(); // the length of an entry in bytes
+        CRC32 checksum = new CRC32(); // checks that each entry was written completely
+        Character character = new Character(); // holds the character of the entry being written
+        int numberOfEntries = 0; // the number of entries written so far
+        for (int start = entries.position(); start + entryLength <= entries.limit(); start += entryLength) {
+            checksum.reset();
+            checksum.update(entries.duplicate().position(start).limit(start + entryLength - Integer.BYTES));
+            if ((int) checksum.getValue() != entries.getInt(start + entryLength - Integer.BYTES)) break;
+            int numberOfRecord = entries.getInt(start + 1); // the record the entry writes
+            if (entries.get(start) == TOMBSTONE_ENTRY) store.writeTombstone(numberOfRecord);
+            else {
+                format.readRecord(entries, start + 5, character);
+                store.writeRecord(numberOfRecord, character);
+            } numberOfEntries++;
+        } return numberOfEntries;
+    }
+
+    public boolean isFull() {
+        return pendingEntries.remaining() < entryLength;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Checks random queries against a brute-force filter of every character, on each roster type, while characters are deleted, edited and added between the queries so the indexes have to keep up
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CharacterQueryTest {
+
+    private final static int NUMBER_OF_CHARACTERS = 20000; // the number of characters in the binary file
+    private final static int ROUNDS = 3; // the number of times the characters are changed and queried
+    private final static int QUERIES_PER_ROUND = 100; // the number of random queries checked after each change
+    private final static int CHANGES_PER_ROUND = 1000; // the number of deletes, edits and adds made before each round of queries
+    private final static Race[] RACES = Race.values(); // the races queried for
+    private final static CharacterClass[] CLASSES = CharacterClass.values(); // the classes queried for
+    private final static Stat[] STATS = Stat.values(); // the stats queried and sorted by
+
+    @TempDir
+    Path directory; // holds the binary file
+
+    /** Method Name: createQuery
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Builds a query with a random race, class, level range, stat conditions, name text, order and limit, each only some of the time
+     * @Parameters random - picks the conditions
+     * @Returns The query with its conditions, Data Type: RandomQuery
+     * Dependencies: CharacterQuery, Random
+     * Throws/Exceptions: N/A
+     */
+
+    private static RandomQuery createQuery(Random random) {
+        CharacterQuery query = new CharacterQuery(); // the query being built
+        Predicate<Character> condition = character -> true; // whether a character matches the query
+        StringBuilder description = new StringBuilder(); // the query in words
+        if (random.nextBoolean()) {
+            Race race = RACES[random.nextInt(RACES.length)]; // the race a character must be
+            query.race(race);
+            condition = condition.and(character -> character.getRace() == race);
+            description.append(" race ").append(race);
+        } if (random.nextBoolean()) {
+            CharacterClass classOfCharacter = CLASSES[random.nextInt(CLASSES.length)]; // the class a character must be
+            query.classOfCharacter(classOfCharacter);
+            condition = condition.and(character -> character.getClassOfCharacter() == classOfCharacter);
+            description.append(" class ").append(classOfCharacter);
+        } int numberOfStatConditions = random.nextInt(3); // the number of stats with a range
+        int firstStat = random.nextInt(STATS.length); // the first stat with a range, the next ones follow it so a stat is never given two ranges, which the query would replace
+        for (int i = 0; i < numberOfStatConditions; i++) {
+            Stat stat = STATS[(firstStat + i) % STATS.length]; // the stat with a range
+            int bound = stat == Stat.LEVEL ? 1 + random.nextInt(20) : 3 + random.nextInt(16); // a value the stat can have
+            if (random.nextBoolean()) {
+                query.atLeast(stat, bound);
+                condition = condition.and(character -> character.getStat(stat) >= bound);
+                description.append(' ').append(stat).append(" >= ").append(bound);
+            } else {
+                query.atMost(stat, bound);
+                condition = condition.and(character -> character.getStat(stat) <= bound);
+                description.append(' ').append(stat).append(" <= ").append(bound);
+            }
+        } if (random.nextInt(4) == 0) {
+            String text = String.valueOf(random.nextInt(10)); // text the name must contain
+            query.nameContains(text);
+            condition = condition.and(character -> character.getName().contains(text));
+            description.append(" name contains ").append(text);
+        }
+        Comparator<Character> order = null; // the order of the results, null for slot order
+        int sort = random.nextInt(4); // 0 for slot order, 1 for a stat going up, 2 for a stat going down, 3 for names
+        if (sort == 1 || sort == 2) {
+            Stat stat = STATS[random.nextInt(STATS.length)]; // the stat the results are sorted by
+            query.sortBy(stat, sort == 2);
+            order = Comparator.comparingInt(character -> character.getStat(stat));
+            if (sort == 2) order = order.reversed();
+            description.append(" sorted by ").append(stat).append(sort == 2 ? " descending" : "");
+        } else if (sort == 3) {
+            query.sortByName();
+            order = Comparator.comparing(Character::getName);
+            description.append(" sorted by name");
+        }
+        int limit = random.nextBoolean() ? Integer.MAX_VALUE : 1 + random.nextInt(50); // the most results
+        query.limit(limit);
+        description.append(" limit ").append(limit);
+        return new RandomQuery(query, condition, order, limit, description.toString());
+    }
+
+    /** Method Name: bruteForce
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Answers a query by checking every character in slot order, then sorting the matches with a stable sort so equal values stay in slot order
+     * @Parameters myHelper - the characters being queried, randomQuery - the query
+     * @Returns The matching characters in result order, Data Type: List<Character>
+     * Dependencies: CharacterUtils
+     * Throws/Exceptions: N/A
+     */
+
+    private static List<Character> bruteForce(CharacterUtils myHelper, RandomQuery randomQuery) {
+        List<Character> matches = new ArrayList<>(); // the matching characters
+        int numberOfCharacters = myHelper.getNumberOfCharacters(); // the number of characters to find, deleted slots are skipped
+        for (int slot = 0, found = 0; found < numberOfCharacters; slot++) {
+            Character character = myHelper.getCharacter(slot); // the character in the slot, null if it is deleted
+            if (character == null) continue;
+            found++;
+            if (randomQuery.condition.test(character)) matches.add(character);
+        } if (randomQuery.order != null) matches.sort(randomQuery.order);
+        return matches.subList(0, Math.min(matches.size(), randomQuery.limit));
+    }
+
+    /** Method Name: changeCharacters
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Deletes, edits and adds random characters, the adds reuse the deleted slots
+     * @Parameters myHelper - the characters being changed, random - picks the changes, round - the number of the round, keeps the added names apart
+     * @Returns N/A, Data Type: Void
+     * Dependencies: CharacterUtils, TestCharacters
+     * Throws/Exceptions: IOException
+     */
+
+    private static void changeCharacters(CharacterUtils myHelper, Random random, int round) throws IOException {
+        for (int i = 0; i < CHANGES_PER_ROUND; i++) {
+            String name = "NPC " + (1 + random.nextInt(NUMBER_OF_CHARACTERS)); // a generated character, which may have been deleted
+            switch (random.nextInt(3)) {
+                case 0 -> myHelper.deleteCharacter(name);
+                case 1 -> myHelper.editCharacter(name, character -> {
+                    character.changeRace(RACES[random.nextInt(RACES.length)]);
+                    character.changeClass(CLASSES[random.nextInt(CLASSES.length)]);
+                    character.setLevel(1 + random.nextInt(20));
+                    character.setWisdom(3 + random.nextInt(16));
+                });
+                default -> myHelper.addCharacterIfAbsent(TestCharacters.create("Added " + round + " " + i, RACES[random.nextInt(RACES.length)], CLASSES[random.nextInt(CLASSES.length)], 1 + random.nextInt(20)));
+            }
+        }
+    }
+
+    /** Method Name: queriesMatchBruteForce
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Runs 300 random queries, changing the characters before every 100, and checks each gives the same characters in the same order as the brute-force filter
+     * @Parameters mode - the system properties of the roster type, blank for the object roster
+     * @Returns N/A, Data Type: Void
+     * Dependencies: CharacterUtils, TestCharacters
+     * Throws/Exceptions: IOException
+     */
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "charactermanager.columnarRoster=true", "charactermanager.lazyLoad=true"})
+    void queriesMatchBruteForce(String mode) throws IOException {
+        CharacterUtils myHelper = TestCharacters.openHelper(mode, TestCharacters.generateFile(directory, NUMBER_OF_CHARACTERS), NUMBER_OF_CHARACTERS); // the characters being queried
+        Random random = new Random(12); // picks the changes and the queries, seeded so a failure can be repeated
+        int numberOfMatches = 0; // the number of characters found over every query, checked so the queries are not all empty
+        for (int round = 0; round < ROUNDS; round++) {
+            if (round > 0) changeCharacters(myHelper, random, round);
+            for (int i = 0; i < QUERIES_PER_ROUND; i++) {
+                RandomQuery randomQuery = createQuery(random); // the query being checked
+                List<Character> expected = bruteForce(myHelper, randomQuery); // the characters the query should find
+                Character[] actual = myHelper.query(randomQuery.query); // the characters the query found
+                assertEquals(expected.size(), actual.length, randomQuery.description);
+                for (int j = 0; j < actual.length; j++) TestCharacters.assertSameCharacter(expected.get(j), actual[j]);
+                numberOfMatches += actual.length;
+            }
+        } assertTrue(numberOfMatches > QUERIES_PER_ROUND * ROUNDS);
+        myHelper.close();
+    }
+
+    /** Method Name: resultsAreCopies
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Changes the characters a query, a name search and the character list return, and checks the characters in the list are not changed with them
+     * @Parameters mode - the system properties of the roster type, blank for the object roster
+     * @Returns N/A, Data Type: Void
+     * Dependencies: CharacterUtils, TestCharacters
+     * Throws/Exceptions: IOException
+     */
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "charactermanager.columnarRoster=true", "charactermanager.lazyLoad=true"})
+    void resultsAreCopies(String mode) throws IOException {
+        CharacterUtils myHelper = TestCharacters.openHelper(mode, TestCharacters.generateFile(directory, 100), 100); // the characters being queried
+        Character[] original = new Character[100]; // copies of the characters before the results are changed
+        for (int i = 0; i < original.length; i++) original[i] = myHelper.getCharacter("NPC " + (i + 1));
+        Character[] results = myHelper.query(new CharacterQuery()); // every character, by a query
+        Character[] searchResults = myHelper.searchByName("NPC 1", 10); // the characters found by a name search
+        Character[] list = myHelper.getCharacterList(); // every character, from the list
+        assertEquals(original.length, results.length);
+        assertTrue(searchResults.length > 0);
+        for (Character character : results) character.setStrength(character.getStrength() == 3 ? 4 : 3);
+        for (Character character : searchResults) character.setCharisma(character.getCharisma() == 3 ? 4 : 3);
+        for (Character character : list) character.setWisdom(character.getWisdom() == 3 ? 4 : 3);
+        for (Character character : original) TestCharacters.assertSameCharacter(character, myHelper.getCharacter(character.getName()));
+        myHelper.close();
+    }
+
+    private static class RandomQuery {
+
+        private final CharacterQuery query; // the query run by CharacterUtils
+        private final Predicate<Character> condition; // whether a character matches the query
+        private final Comparator<Character> order; // the order of the results, null for slot order
+        private final int limit; // the most results
+        private final String description; // the query in words, shown when a check fails
+
+        private RandomQuery(CharacterQuery query, Predicate<Character> condition, Comparator<Character> order, int limit, String description) {
+            this.query = query;
+            this.condition = condition;
+            this.order = order;
+            this.limit = limit;
+            this.description = description;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Checks that CharacterUtils can be shared between threads, 4 threads edit and look up characters while another adds and deletes them, in every storage mode, and that a thread holding the lock alone can call other locked methods
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CharacterUtilsConcurrencyTest {
+
+    private final static int NUMBER_OF_CHARACTERS = 2000; // the number of characters in the binary file
+    private final static int NUMBER_OF_EDITORS = 4; // the number of threads editing and looking up characters
+    private final static int EDITS_PER_EDITOR = 2500; // the number of edits each editing thread makes
+    private final static int EDITED_CHARACTERS = 50; // the number of characters every editor edits, few so the editors often edit the same one at once
+    private final static int ADDS = 500; // the number of characters added and deleted again while the editors run
+
+    @TempDir
+    Path directory; // holds the binary file and its log
+
+    private static String getName(int characterIndex) {
+        return "NPC " + (characterIndex + 1);
+    }
+
+    /** Method Name: edit
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Raises the strength of the edited characters one at a time, the other editors edit the same characters. Any character and the added characters are looked up in between
+     * @Parameters myHelper - the shared CharacterUtils object, increases - counts the strength increases this editor made to each character
+     * @Returns N/A, Data Type: Void
+     * Dependencies: CharacterUtils, ThreadLocalRandom
+     * Throws/Exceptions: IOException
+     */
+
+    private static void edit(CharacterUtils myHelper, int[] increases) throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current(); // picks the characters that are looked up
+        for (int i = 0; i < EDITS_PER_EDITOR; i++) {
+            int characterIndex = i % EDITED_CHARACTERS; // the character being edited
+            assertNotNull(myHelper.editCharacter(getName(characterIndex), character -> character.setStrength(character.getStrength() + 1)));
+            increases[characterIndex]++;
+            String name = getName(random.nextInt(NUMBER_OF_CHARACTERS)); // any character
+            assertEquals(name, myHelper.getCharacter(name).getName());
+            int foundIndex = myHelper.findCharacterIndex(name); // the index the name was found at
+            assertNotEquals(-1, foundIndex);
+            assertEquals(name, myHelper.getCharacter(foundIndex).getName());
+            String addedName = "Added " + random.nextInt(ADDS); // a character that may have been added or deleted
+            Character added = myHelper.getCharacter(addedName); // the added character, null if it is not there
+            if (added != null) assertEquals(addedName, added.getName());
+        }
+    }
+
+    /** Method Name: addAndDelete
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Adds characters and deletes them again, so slots are freed and reused while the editors run
+     * @Parameters myHelper - the shared CharacterUtils object
+     * @Returns N/A, Data Type: Void
+     * Dependencies: CharacterUtils, TestCharacters
+     * Throws/Exceptions: IOException
+     */
+
+    private static void addAndDelete(CharacterUtils myHelper) throws IOException {
+        for (int i = 0; i < ADDS; i++) {
+            String name = "Added " + i; // the name of the added character
+            assertNotEquals(-1, myHelper.addCharacterIfAbsent(TestCharacters.create(name, Race.GNOME, CharacterClass.BARD, 1)));
+            assertEquals(-1, myHelper.addCharacterIfAbsent(TestCharacters.create(name, Race.GNOME, CharacterClass.BARD, 1)));
+            assertEquals(name, myHelper.getCharacter(name).getName());
+            assertTrue(myHelper.deleteCharacter(name));
+            assertNull(myHelper.getCharacter(name));
+        }
+    }
+
+    /** Method Name: editsFromManyThreadsAreKept
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Runs the editors and the adding thread at once, then checks every edit was kept in memory and in the binary file
+     * @Parameters mode - the system properties of the storage mode, separated by commas
+     * @Returns N/A, Data Type: Void
+     * Dependencies: ExecutorService, CharacterUtils
+     * Throws/Exceptions: Exception
+     */
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "charactermanager.writeAheadLog=false", "charactermanager.mappedStore=true", "charactermanager.columnarRoster=true", "charactermanager.lazyLoad=true,charactermanager.lazyCacheSize=256", "charactermanager.writeBack=true"})
+    @Timeout(value = 300, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+    void editsFromManyThreadsAreKept(String mode) throws Exception {
+        Path binaryFile = TestCharacters.generateFile(directory, NUMBER_OF_CHARACTERS); // the file the threads share
+        CharacterUtils myHelper = TestCharacters.openHelper(mode, binaryFile, NUMBER_OF_CHARACTERS); // the object the threads share
+        int[] strengths = new int[NUMBER_OF_CHARACTERS]; // the strength of each character before the edits
+        for (int i = 0; i < NUMBER_OF_CHARACTERS; i++) strengths[i] = myHelper.getCharacter(getName(i)).getStrength();
+        int[][] increases = new int[NUMBER_OF_EDITORS][NUMBER_OF_CHARACTERS]; // the strength increases each editor made
+        List<Callable<Void>> tasks = new ArrayList<>(); // the editors and the adding thread
+        for (int i = 0; i < NUMBER_OF_EDITORS; i++) {
+            int editor = i; // the number of the editor
+            tasks.add(() -> {
+                edit(myHelper, increases[editor]);
+                return null;
+            });
+        } tasks.add(() -> {
+            addAndDelete(myHelper);
+            return null;
+        });
+        ExecutorService threads = Executors.newFixedThreadPool(tasks.size()); // runs every task at once
+        try {
+            for (Future<Void> task : threads.invokeAll(tasks)) task.get();
+        } finally {
+            threads.shutdownNow();
+        }
+        for (int[] editorIncreases : increases) for (int i = 0; i < NUMBER_OF_CHARACTERS; i++) strengths[i] += editorIncreases[i];
+        for (int i = 0; i < NUMBER_OF_CHARACTERS; i++) assertEquals(strengths[i], myHelper.getCharacter(getName(i)).getStrength(), getName(i));
+        myHelper.close();
+        CharacterUtils reopened = TestCharacters.openHelper(mode, binaryFile, NUMBER_OF_CHARACTERS); // reads the edits back from the binary file
+        assertEquals(NUMBER_OF_CHARACTERS, reopened.getCharacterList().length);
+        for (int i = 0; i < NUMBER_OF_CHARACTERS; i++) assertEquals(strengths[i], reopened.getCharacter(getName(i)).getStrength(), getName(i));
+        for (int i = 0; i < ADDS; i++) assertNull(reopened.getCharacter("Added " + i));
+        reopened.close();
+    }
+
+    /** Method Name: nestedLockingReleasesTheLock
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Calls methods that take the lock alone and call other locked methods, which would wait for themselves forever if the nested calls took the lock again or gave it up early, then checks another thread can still take the lock
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: CharacterUtils, ExecutorService
+     * Throws/Exceptions: Exception
+     */
+
+    @Test
+    @Timeout(value = 60, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+    void nestedLockingReleasesTheLock() throws Exception {
+        Path binaryFile = TestCharacters.generateFile(directory, NUMBER_OF_CHARACTERS); // the file being loaded
+        CharacterUtils myHelper = TestCharacters.openHelper("", binaryFile, NUMBER_OF_CHARACTERS); // the object being locked
+        myHelper.userBinaryFileChoiceToArray(binaryFile.toString());
+        Character hero = TestCharacters.create("Nested Hero", Race.ELF, CharacterClass.MAGE, 3); // the character added and deleted
+        assertNotEquals(-1, myHelper.addCharacterIfAbsent(hero));
+        myHelper.beginBatch();
+        assertNotNull(myHelper.editCharacter(hero.getName(), character -> character.setLevel(4)));
+        assertEquals(1, myHelper.endBatch());
+        assertTrue(myHelper.deleteCharacter(hero.getName()));
+        myHelper.writeToFile();
+        ExecutorService otherThread = Executors.newSingleThreadExecutor(); // takes the lock after this thread gave it up
+        try {
+            Future<Boolean> task = otherThread.submit(() -> { // adds and deletes on another thread, which waits forever if the lock was not given up
+                myHelper.addCharacterIfAbsent(new Character(hero));
+                return myHelper.getCharacter(hero.getName()) != null && myHelper.deleteCharacter(hero.getName());
+            });
+            assertTrue(task.get(30, TimeUnit.SECONDS));
+        } finally {
+            otherThread.shutdownNow();
+        }
+        assertFalse(myHelper.deleteCharacter(hero.getName()));
+        assertEquals(NUMBER_OF_CHARACTERS, myHelper.getCharacterList().length);
+        myHelper.close();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Checks that compacting the characters on each roster type keeps the list and the binary file matching, both when the compacted file is saved and when the save fails and the old file is kept
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CompactionTest {
+
+    private final static int NUMBER_OF_CHARACTERS = 130; // the number of characters in the binary file
+    private final static int NUMBER_OF_DELETED = 66; // the number of characters deleted, enough for deleting them to compact the list on its own
+    private final static int TOO_MANY_HIT_POINTS = 40000; // hit points a legacy record holds but the default format can not
+    private final static int EDITED_STRENGTH = 5; // the strength the edited character is given
+
+    @TempDir
+    Path directory; // holds the binary file
+
+    /** Method Name: generateLegacyFile
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Generates a binary file in the legacy format, optionally giving its first character hit points the default format can not hold so every save in that format fails
+     * @Parameters isUnsaveable - whether the first character is given too many hit points
+     * @Returns The binary file, Data Type: Path
+     * Dependencies: TestCharacters, RandomAccessFile
+     * Throws/Exceptions: IOException
+     */
+
+    private Path generateLegacyFile(boolean isUnsaveable) throws IOException {
+        System.setProperty("charactermanager.recordFormat", RecordFormat.V1.name());
+        Path binaryFile; // the generated file
+        try {
+            binaryFile = TestCharacters.generateFile(directory, NUMBER_OF_CHARACTERS);
+        } finally {
+            System.clearProperty("charactermanager.recordFormat");
+        } if (isUnsaveable) {
+            try (RandomAccessFile file = new RandomAccessFile(binaryFile.toFile(), "rw")) { // the legacy file, which has no header
+                file.seek(124);
+                file.writeInt(TOO_MANY_HIT_POINTS);
+            }
+        } return binaryFile;
+    }
+
+    /** Method Name: deleteAndEdit
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Deletes characters until the list compacts itself, compacts it again, and edits a character after the deleted ones
+     * @Parameters myHelper - the characters being changed
+     * @Returns N/A, Data Type: Void
+     * Dependencies: CharacterUtils
+     * Throws/Exceptions: IOException
+     */
+
+    private static void deleteAndEdit(CharacterUtils myHelper) throws IOException {
+        for (int i = 2; i < 2 + NUMBER_OF_DELETED; i++) myHelper.deleteCharacter("NPC " + i);
+        myHelper.compact();
+        myHelper.editCharacter("NPC 100", character -> character.setStrength(EDITED_STRENGTH));
+    }
+
+    /** Method Name: assertCharacters
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Checks that the deleted characters are gone, that every other character is found under their own name, and that the edit was kept
+     * @Parameters myHelper - the characters being checked
+     * @Returns N/A, Data Type: Void
+     * Dependencies: CharacterUtils
+     * Throws/Exceptions: AssertionFailedError
+     */
+
+    private static void assertCharacters(CharacterUtils myHelper) {
+        assertEquals(NUMBER_OF_CHARACTERS - NUMBER_OF_DELETED, myHelper.getNumberOfCharacters());
+        for (int i = 1; i <= NUMBER_OF_CHARACTERS; i++) {
+            Character character = myHelper.getCharacter("NPC " + i); // the character found under the name
+            if (i >= 2 && i < 2 + NUMBER_OF_DELETED) assertNull(character, "NPC " + i);
+            else {
+                assertNotNull(character, "NPC " + i);
+                assertEquals("NPC " + i, character.getName());
+            }
+        } assertEquals(EDITED_STRENGTH, myHelper.getCharacter("NPC 100").getStrength());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "charactermanager.columnarRoster=true", "charactermanager.lazyLoad=true", "charactermanager.bulkMode=false"})
+    void compactedFileMatchesList(String mode) throws IOException {
+        Path binaryFile = generateLegacyFile(false); // the file being compacted
+        CharacterUtils myHelper = TestCharacters.openHelper(mode, binaryFile, NUMBER_OF_CHARACTERS); // the characters being compacted
+        deleteAndEdit(myHelper);
+        assertCharacters(myHelper);
+        myHelper.close();
+        assertEquals(RecordFormat.V2.getOffset(NUMBER_OF_CHARACTERS - NUMBER_OF_DELETED), Files.size(binaryFile));
+        assertCharacters(TestCharacters.openHelper(mode, binaryFile, NUMBER_OF_CHARACTERS));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "charactermanager.columnarRoster=true", "charactermanager.lazyLoad=true", "charactermanager.bulkMode=false"})
+    void failedCompactionKeepsList(String mode) throws IOException {
+        Path binaryFile = generateLegacyFile(true); // the file that can not be compacted
+        CharacterUtils myHelper = TestCharacters.openHelper(mode, binaryFile, NUMBER_OF_CHARACTERS); // the characters being compacted
+        deleteAndEdit(myHelper);
+        assertCharacters(myHelper);
+        myHelper.close();
+        assertEquals(RecordFormat.V1.getOffset(NUMBER_OF_CHARACTERS), Files.size(binaryFile));
+        assertCharacters(TestCharacters.openHelper(mode, binaryFile, NUMBER_OF_CHARACTERS));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Makes the characters and binary files the checks run against and compares characters field by field, since a character has no equals of its own
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+final class TestCharacters {
+
+    private final static long SEED = 20261017; // the seed every generated file is made from, so a failing check can be run again on the same characters
+
+    private TestCharacters() {
+    }
+
+    /** Method Name: create
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Creates a character with rolled stats
+     * @Parameters name - the name of the character, race - their race, classOfCharacter - their class, level - their level
+     * @Returns The character, Data Type: Character
+     * Dependencies: N/A
+     * Throws/Exceptions: N/A
+     */
+
+    static Character create(String name, Race race, CharacterClass classOfCharacter, int level) {
+        Character character = new Character(); // the created character
+        character.setName(name);
+        character.setRace(race);
+        character.setClassOfCharacter(classOfCharacter);
+        character.generateStats();
+        character.setLevel(level);
+        return character;
+    }
+
+    /** Method Name: generateFile
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Generates a binary file of characters named NPC 1 to NPC numberOfCharacters from a fixed seed
+     * @Parameters directory - where the file is made, numberOfCharacters - the number of characters in the file
+     * @Returns The binary file, Data Type: Path
+     * Dependencies: CharacterGenerator, ForkJoinPool
+     * Throws/Exceptions: IOException
+     */
+
+    static Path generateFile(Path directory, int numberOfCharacters) throws IOException {
+        Path binaryFile = directory.resolve("characters.bin"); // the generated file
+        new CharacterGenerator().seed(SEED).generateFile(binaryFile.toString(), numberOfCharacters, ForkJoinPool.commonPool());
+        return binaryFile;
+    }
+
+    /** Method Name: openHelper
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Loads a binary file into a CharacterUtils object made in a storage mode, the mode is set through system properties which are cleared again once the object has read them
+     * @Parameters mode - the system properties of the mode, separated by commas (ex. charactermanager.lazyLoad=true), blank for the default mode, binaryFile - the binary file, size - the number of characters expected
+     * @Returns The CharacterUtils object, Data Type: CharacterUtils
+     * Dependencies: CharacterUtils
+     * Throws/Exceptions: N/A
+     */
+
+    static CharacterUtils openHelper(String mode, Path binaryFile, int size) {
+        String[] settings = mode.isEmpty() ? new String[0] : mode.split(","); // the properties of the mode
+        for (String setting : settings) System.setProperty(setting.substring(0, setting.indexOf('=')), setting.substring(setting.indexOf('=') + 1));
+        CharacterUtils myHelper; // the object the file is loaded into
+        try {
+            myHelper = new CharacterUtils(size);
+        } finally {
+            for (String setting : settings) System.clearProperty(setting.substring(0, setting.indexOf('=')));
+        } myHelper.userBinaryFileChoiceToArray(binaryFile.toString());
+        return myHelper;
+    }
+
+    /** Method Name: assertSameCharacter
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Checks that two characters have the same name, race, class and stats
+     * @Parameters expected - the character that should have been found, actual - the character that was found
+     * @Returns N/A, Data Type: Void
+     * Dependencies: Stat
+     * Throws/Exceptions: AssertionFailedError
+     */
+
+    static void assertSameCharacter(Character expected, Character actual) {
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getRace(), actual.getRace(), expected.getName());
+        assertEquals(expected.getClassOfCharacter(), actual.getClassOfCharacter(), expected.getName());
+        for (Stat stat : Stat.values()) assertEquals(expected.getStat(stat), actual.getStat(stat), expected.getName() + " " + stat);
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Author: Abhay Manoj
+ * Purpose: Checks that writes committed to the write-ahead log survive a crash before they reach the binary file, and that a torn or corrupt entry stops the replay
+ * Date of Creation: October 17, 2026
+ */
+
+package com.ekakii729.charactermanager;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WriteAheadLogTest {
+
+    private final static int NUMBER_OF_RECORDS = 10; // the number of records in the binary file
+    private final static int ENTRIES_PER_COMMIT = 4; // the number of log entries grouped into one commit
+
+    @TempDir
+    Path directory; // holds the binary file and its log
+
+    private String binaryFileName; // the name of the binary file
+    private File logFile; // the log of the binary file
+    private Character[] original; // the characters the binary file starts with
+
+    /** Method Name: setUp
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Writes a binary file of characters straight through the store, without a log
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: RandomAccessCharacterStore, TestCharacters
+     * Throws/Exceptions: IOException
+     */
+
+    @BeforeEach
+    void setUp() throws IOException {
+        binaryFileName = directory.resolve("characters.bin").toString();
+        logFile = WriteAheadLog.getLogFile(binaryFileName);
+        original = new Character[NUMBER_OF_RECORDS];
+        try (CharacterStore store = new RandomAccessCharacterStore(binaryFileName)) { // writes the starting records
+            store.setNumberOfRecords(NUMBER_OF_RECORDS);
+            for (int i = 0; i < NUMBER_OF_RECORDS; i++) {
+                original[i] = TestCharacters.create("Hero " + i, Race.values()[i % Race.values().length], CharacterClass.values()[i % CharacterClass.values().length], 1 + i);
+                store.writeRecord(i, original[i]);
+            }
+        }
+    }
+
+    /** Method Name: readFile
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Reads every record of the binary file
+     * @Parameters N/A
+     * @Returns The characters in the file, Data Type: Character[]
+     * Dependencies: RandomAccessCharacterStore
+     * Throws/Exceptions: IOException
+     */
+
+    private Character[] readFile() throws IOException {
+        try (CharacterStore store = new RandomAccessCharacterStore(binaryFileName)) { // reads the records
+            Character[] characters = new Character[store.getNumberOfRecords()]; // the characters in the file
+            for (int i = 0; i < characters.length; i++) {
+                characters[i] = new Character();
+                store.readRecord(i, characters[i]);
+            } return characters;
+        }
+    }
+
+    /** Method Name: crashedStore
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Opens a store over the binary file that loses every write, the way writes are lost when the program dies before the binary file reaches the disk
+     * @Parameters N/A
+     * @Returns The store, Data Type: CharacterStore
+     * Dependencies: RandomAccessCharacterStore
+     * Throws/Exceptions: IOException
+     */
+
+    private CharacterStore crashedStore() throws IOException {
+        return new RandomAccessCharacterStore(binaryFileName) {
+            public void writeRecord(int numberOfRecord, Character character) {
+            }
+
+            public void writeTombstone(int numberOfRecord) {
+            }
+        };
+    }
+
+    /** Method Name: writeEntries
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Commits a changed character to each of the first records and deletes the last one through a log whose writes never reach the binary file, then leaves the log behind as a crash would
+     * @Parameters changed - the changed characters, written to records 0 upwards
+     * @Returns The length of the log after each commit, Data Type: Long[]
+     * Dependencies: WriteAheadLog
+     * Throws/Exceptions: IOException
+     */
+
+    private long[] writeEntries(Character[] changed) throws IOException {
+        long[] commitLengths = new long[(changed.length + ENTRIES_PER_COMMIT) / ENTRIES_PER_COMMIT]; // the length of the log after each commit
+        int numberOfCommits = 0; // the number of commits made so far
+        try (CharacterStore store = crashedStore(); WriteAheadLog log = new WriteAheadLog(logFile, store.getFormat(), ENTRIES_PER_COMMIT)) { // the log being written
+            for (int i = 0; i <= changed.length; i++) {
+                log.append(i == changed.length ? NUMBER_OF_RECORDS - 1 : i, i == changed.length ? null : changed[i]);
+                if (log.isFull() || i == changed.length) {
+                    log.commit(store);
+                    commitLengths[numberOfCommits++] = log.getLength();
+                }
+            }
+        } return commitLengths;
+    }
+
+    private static Character[] changeCharacters(int numberOfCharacters) {
+        Character[] changed = new Character[numberOfCharacters]; // the changed characters
+        for (int i = 0; i < numberOfCharacters; i++) changed[i] = TestCharacters.create("Changed " + i, Race.DWARF, CharacterClass.WARRIOR, 20 + i);
+        return changed;
+    }
+
+    @Test
+    void recoverWithoutLogChangesNothing() throws IOException {
+        assertEquals(0, WriteAheadLog.recover(binaryFileName));
+        Character[] characters = readFile(); // the characters after recovering
+        for (int i = 0; i < NUMBER_OF_RECORDS; i++) TestCharacters.assertSameCharacter(original[i], characters[i]);
+    }
+
+    /** Method Name: recoverReplaysCommittedWrites
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Crashes after the log was committed but before the binary file was written, recovering has to make every logged write and delete the log
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: WriteAheadLog, TestCharacters
+     * Throws/Exceptions: IOException
+     */
+
+    @Test
+    void recoverReplaysCommittedWrites() throws IOException {
+        Character[] changed = changeCharacters(5); // the characters logged over records 0 to 4
+        writeEntries(changed);
+        TestCharacters.assertSameCharacter(original[0], readFile()[0]);
+        assertEquals(changed.length + 1, WriteAheadLog.recover(binaryFileName));
+        assertFalse(logFile.exists());
+        Character[] characters = readFile(); // the characters after recovering
+        for (int i = 0; i < changed.length; i++) TestCharacters.assertSameCharacter(changed[i], characters[i]);
+        for (int i = changed.length; i < NUMBER_OF_RECORDS - 1; i++) TestCharacters.assertSameCharacter(original[i], characters[i]);
+        assertTrue(characters[NUMBER_OF_RECORDS - 1].isTombstone());
+    }
+
+    /** Method Name: tornEntryIsNotReplayed
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Cuts the log off in the middle of its last entry, as a crash during the log write would, so only the complete entries before it are replayed
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: WriteAheadLog, RandomAccessFile
+     * Throws/Exceptions: IOException
+     */
+
+    @Test
+    void tornEntryIsNotReplayed() throws IOException {
+        Character[] changed = changeCharacters(5); // the characters logged over records 0 to 4
+        writeEntries(changed);
+        try (RandomAccessFile log = new RandomAccessFile(logFile, "rw")) { // the log being torn
+            log.setLength(log.length() - 7);
+        }
+        assertEquals(changed.length, WriteAheadLog.recover(binaryFileName));
+        Character[] characters = readFile(); // the characters after recovering
+        for (int i = 0; i < changed.length; i++) TestCharacters.assertSameCharacter(changed[i], characters[i]);
+        TestCharacters.assertSameCharacter(original[NUMBER_OF_RECORDS - 1], characters[NUMBER_OF_RECORDS - 1]);
+    }
+
+    /** Method Name: corruptEntryStopsReplay
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Flips a byte in the first entry of the second commit, the replay has to stop there and leave every later record alone
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: WriteAheadLog, RandomAccessFile
+     * Throws/Exceptions: IOException
+     */
+
+    @Test
+    void corruptEntryStopsReplay() throws IOException {
+        Character[] changed = changeCharacters(5); // the characters logged over records 0 to 4
+        long firstCommitLength = writeEntries(changed)[0]; // where the entries of the second commit start
+        try (RandomAccessFile log = new RandomAccessFile(logFile, "rw")) { // the log being corrupted
+            log.seek(firstCommitLength + 10);
+            int value = log.read(); // the byte being flipped
+            log.seek(firstCommitLength + 10);
+            log.write(value ^ 0xFF);
+        }
+        assertEquals(ENTRIES_PER_COMMIT, WriteAheadLog.recover(binaryFileName));
+        Character[] characters = readFile(); // the characters after recovering
+        for (int i = 0; i < ENTRIES_PER_COMMIT; i++) TestCharacters.assertSameCharacter(changed[i], characters[i]);
+        for (int i = ENTRIES_PER_COMMIT; i < NUMBER_OF_RECORDS; i++) TestCharacters.assertSameCharacter(original[i], characters[i]);
+    }
+
+    /** Method Name: journaledStoreReplaysLeftoverLog
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Writes through a journaled store whose binary file loses its writes and is never closed, then opens the file again the way a restart does
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: JournaledCharacterStore, TestCharacters
+     * Throws/Exceptions: IOException
+     */
+
+    @Test
+    void journaledStoreReplaysLeftoverLog() throws IOException {
+        Character[] changed = changeCharacters(3); // the characters written over records 0 to 2
+        CharacterStore crashed = new JournaledCharacterStore(crashedStore(), binaryFileName); // the store that dies before closing
+        for (int i = 0; i < changed.length; i++) crashed.writeRecord(i, changed[i]);
+        crashed.writeTombstone(NUMBER_OF_RECORDS - 1);
+        crashed.flush();
+        TestCharacters.assertSameCharacter(original[0], readFile()[0]);
+        try (CharacterStore store = new JournaledCharacterStore(new RandomAccessCharacterStore(binaryFileName), binaryFileName)) { // the store opened after the crash
+            Character character = new Character(); // holds each record that is read
+            for (int i = 0; i < changed.length; i++) {
+                store.readRecord(i, character);
+                TestCharacters.assertSameCharacter(changed[i], character);
+            } store.readRecord(NUMBER_OF_RECORDS - 1, character);
+            assertTrue(character.isTombstone());
+        }
+        assertFalse(logFile.exists());
+        Character[] characters = readFile(); // the characters once the store was closed cleanly
+        for (int i = 0; i < changed.length; i++) TestCharacters.assertSameCharacter(changed[i], characters[i]);
+        crashed.close();
+    }
+
+    /** Method Name: singleWriteSurvivesWithoutClose
+     * @Author Abhay Manoj
+     * @Date October 17, 2026
+     * @Modified October 17, 2026
+     * @Description Makes one write through a journaled store whose binary file loses its writes, then drops the store without flushing or closing it, the write has to be in the log already
+     * @Parameters N/A
+     * @Returns N/A, Data Type: Void
+     * Dependencies: JournaledCharacterStore, WriteAheadLog
+     * Throws/Exceptions: IOException
+     */
+
+    @Test
+    void singleWriteSurvivesWithoutClose() throws IOException {
+        Character changed = changeCharacters(1)[0]; // the character written over record 0
+        CharacterStore crashed = new JournaledCharacterStore(crashedStore(), binaryFileName); // the store that is dropped
+        crashed.writeRecord(0, changed);
+        assertEquals(1, WriteAheadLog.recover(binaryFileName));
+        TestCharacters.assertSameCharacter(changed, readFile()[0]);
+        crashed.close();
+    }
+}